@@ -0,0 +1,24 @@
+package com.study.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 绑定基准测试使用的对象
+ **/
+public class BenchmarkUser {
+
+    private int id;
+    private String name;
+    private boolean active;
+    private double score;
+    private List<String> tags;
+    private LocalDateTime lastLogin;
+
+    public int getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.util.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象绑定和文件读取的基准测试
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindBenchmark {
+
+    /**
+     * 不含集合属性的用户，JsonObject.convertClass 也可以处理
+     */
+    private String user;
+
+    private String users;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+
+        user = "{\"id\":101,\"name\":\"Alice\",\"active\":true,\"score\":0.75,\"lastLogin\":\"2024-05-21 13:12:53\"}";
+        users = Corpus.generate(Corpus.Shape.MEDIUM);
+
+        file = Files.createTempFile("corpus", ".json");
+        Files.writeString(file, Corpus.generate(Corpus.Shape.MEDIUM).replaceFirst("^\\{\"users\":", "").replaceFirst(",\"total\":500}$", ""), StandardCharsets.UTF_8);
+    }
+
+    public static class BenchmarkUsers {
+        private List<BenchmarkUser> users;
+        private int total;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public BenchmarkUser parseToClass() throws Exception {
+        return Json.parseToClass(user, BenchmarkUser.class);
+    }
+
+    @Benchmark
+    public BenchmarkUser treeThenConvert() throws Exception {
+        JsonObject object = Json.parseToJsonObject(user);
+        return object.convertClass(BenchmarkUser.class);
+    }
+
+    @Benchmark
+    public BenchmarkUsers parseToClassMedium() throws Exception {
+        return Json.parseToClass(users, BenchmarkUsers.class);
+    }
+
+    @Benchmark
+    public List<String> extractAllJsonStrings() throws IOException {
+        return FileUtils.extractAllJsonStrings(file.toString());
+    }
+
+}
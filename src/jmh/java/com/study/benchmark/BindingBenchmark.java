@@ -0,0 +1,75 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.bind.ClassBinding;
+import com.study.json.bind.FieldBinding;
+import com.study.json.enums.BindingBackend;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象绑定基准测试，比较反射和MethodHandle两种属性访问方式
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark {
+
+    private JsonObject object;
+
+    private ClassBinding<Sample> reflection;
+
+    private ClassBinding<Sample> methodHandle;
+
+    private Sample target;
+
+    private int counter;
+
+    @Setup
+    public void setup() throws Exception {
+        object = Json.parseToJsonObject("{\"id\": 101, \"count\": 9000000000, \"score\": 0.75, \"active\": true, \"name\": \"Alice\"}");
+        reflection = ClassBinding.of(Sample.class, BindingBackend.REFLECTION);
+        methodHandle = ClassBinding.of(Sample.class, BindingBackend.METHOD_HANDLE);
+        target = new Sample();
+    }
+
+    @Benchmark
+    public Sample convertReflection() throws Exception {
+        return object.convertClass(Sample.class, BindingBackend.REFLECTION);
+    }
+
+    @Benchmark
+    public Sample convertMethodHandle() throws Exception {
+        return object.convertClass(Sample.class, BindingBackend.METHOD_HANDLE);
+    }
+
+    @Benchmark
+    public Sample setIntReflection() throws Exception {
+        FieldBinding id = reflection.field("id");
+        id.setInt(target, counter++);
+        return target;
+    }
+
+    @Benchmark
+    public Sample setIntMethodHandle() throws Exception {
+        FieldBinding id = methodHandle.field("id");
+        id.setInt(target, counter++);
+        return target;
+    }
+
+    public static class Sample {
+        private int id;
+        private long count;
+        private double score;
+        private boolean active;
+        private String name;
+    }
+
+}
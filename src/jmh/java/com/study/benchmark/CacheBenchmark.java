@@ -0,0 +1,56 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.JsonCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 反复解析同一段内容时，直接解析与缓存命中的对比。
+ * cachedCopy每次使用内容相同的新字符串，包含计算哈希和比较完整内容的开销
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    private Corpus.Shape shape;
+
+    private String json;
+
+    private char[] chars;
+
+    private JsonCache cache;
+
+    @Setup
+    public void setup() {
+        json = Corpus.generate(shape);
+        chars = json.toCharArray();
+        cache = new JsonCache(64 << 20);
+        cache.parse(json);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return Json.parse(json);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cache.parse(json);
+    }
+
+    @Benchmark
+    public Object cachedCopy() {
+        return cache.parse(new String(chars));
+    }
+
+}
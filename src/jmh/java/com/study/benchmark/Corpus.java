@@ -0,0 +1,130 @@
+package com.study.benchmark;
+
+import java.util.Random;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 基准测试使用的json语料，按形状生成，固定随机种子保证每次运行内容一致
+ **/
+public class Corpus {
+
+    public enum Shape {
+
+        /**
+         * 单个小对象，约100字节
+         */
+        SMALL,
+
+        /**
+         * 包含嵌套对象和数组的中等文档，约100KB
+         */
+        MEDIUM,
+
+        /**
+         * 嵌套很深的对象
+         */
+        DEEP,
+
+        /**
+         * 单个对象包含大量的key
+         */
+        WIDE,
+
+        /**
+         * 以长字符串和转义字符为主
+         */
+        STRING_HEAVY,
+
+        /**
+         * 以整数和浮点数为主
+         */
+        NUMBER_HEAVY,
+
+        /**
+         * 传感器数据，10万个浮点数组成的数组
+         */
+        SENSOR
+    }
+
+    private static final String[] WORDS = {"alpha", "beta", "gamma", "delta", "你好", "naïve", "emoji👋", "quote\\\"", "line\\n"};
+
+    public static String generate(Shape shape) {
+
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+
+        switch (shape) {
+            case SMALL -> user(builder, random, 1);
+            case MEDIUM -> {
+                builder.append("{\"users\":[");
+                for (int i = 0; i < 500; i++) {
+                    builder.append(i == 0 ? "" : ",");
+                    user(builder, random, i);
+                }
+                builder.append("],\"total\":500}");
+            }
+            case DEEP -> {
+                int depth = 500;
+                for (int i = 0; i < depth; i++) {
+                    builder.append("{\"level\":").append(i).append(",\"child\":");
+                }
+                builder.append("null");
+                builder.append("}".repeat(depth));
+            }
+            case WIDE -> {
+                builder.append('{');
+                for (int i = 0; i < 5000; i++) {
+                    builder.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":").append(random.nextInt(1000));
+                }
+                builder.append('}');
+            }
+            case STRING_HEAVY -> {
+                builder.append('[');
+                for (int i = 0; i < 2000; i++) {
+                    builder.append(i == 0 ? "" : ",").append('"');
+                    for (int j = 0; j < 10; j++) {
+                        builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                    }
+                    builder.append('"');
+                }
+                builder.append(']');
+            }
+            case NUMBER_HEAVY -> {
+                builder.append('[');
+                for (int i = 0; i < 20000; i++) {
+                    builder.append(i == 0 ? "" : ",");
+                    if (i % 2 == 0) {
+                        builder.append(random.nextLong() >> random.nextInt(64));
+                    } else {
+                        builder.append(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+                    }
+                }
+                builder.append(']');
+            }
+            case SENSOR -> {
+                builder.append('[');
+                for (int i = 0; i < 100000; i++) {
+                    builder.append(i == 0 ? "" : ",").append(Math.round(random.nextGaussian() * 1e6) / 1e4);
+                }
+                builder.append(']');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 生成一个可以绑定到 {@link BenchmarkUser} 的对象
+     */
+    static void user(StringBuilder builder, Random random, int id) {
+        builder.append("{\"id\":").append(id)
+                .append(",\"name\":\"user").append(random.nextInt(100000)).append('"')
+                .append(",\"active\":").append(random.nextBoolean())
+                .append(",\"score\":").append(random.nextDouble())
+                .append(",\"tags\":[\"").append(WORDS[random.nextInt(WORDS.length)]).append("\",\"")
+                .append(WORDS[random.nextInt(WORDS.length)]).append("\"]")
+                .append(",\"lastLogin\":\"2024-05-21 13:12:53\"}");
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.enums.ParseEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 两种解析引擎解析UTF-8字节数组的吞吐量，bytes计数器的单位为字节/秒，除以1e9即GB/s
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+
+    @Param({"MEDIUM", "STRING_HEAVY", "NUMBER_HEAVY", "WIDE"})
+    private Corpus.Shape shape;
+
+    @Param
+    private ParseEngine engine;
+
+    private byte[] bytes;
+
+    /**
+     * 每次操作累加输入的字节数，结果按吞吐量报告
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+    }
+
+    @Setup
+    public void setup() {
+        bytes = Corpus.generate(shape).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object parse(Bytes counter) throws IOException {
+        counter.bytes += bytes.length;
+        return Json.parse(bytes, engine);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象的内存占用。每次操作创建1000个12个key的对象，
+ * 配合 -prof gc 查看 gc.alloc.rate.norm，除以1000即每个对象的大小（值是预先创建的，不计入）
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FootprintBenchmark {
+
+    private static final int OBJECTS = 1000;
+
+    private static final int KEYS = 12;
+
+    private String[] keys;
+
+    private Object[] values;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        keys = new String[KEYS];
+        values = new Object[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "field" + i;
+            values[i] = i;
+        }
+
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < OBJECTS; i++) {
+            builder.append(i == 0 ? "" : ",").append('{');
+            for (int k = 0; k < KEYS; k++) {
+                builder.append(k == 0 ? "" : ",").append('"').append(keys[k]).append("\":").append(random.nextInt(100));
+            }
+            builder.append('}');
+        }
+        json = builder.append(']').toString();
+    }
+
+    @Benchmark
+    public Object jsonObject() {
+        JsonObject[] objects = new JsonObject[OBJECTS];
+        for (int i = 0; i < OBJECTS; i++) {
+            JsonObject object = new JsonObject();
+            for (int k = 0; k < KEYS; k++) {
+                object.put(keys[k], values[k]);
+            }
+            objects[i] = object;
+        }
+        return objects;
+    }
+
+    /**
+     * 基准：改用紧凑Map之前JsonObject内部使用的HashMap
+     */
+    @Benchmark
+    public Object hashMap() {
+        Object[] objects = new Object[OBJECTS];
+        for (int i = 0; i < OBJECTS; i++) {
+            Map<String, Object> map = new HashMap<>();
+            for (int k = 0; k < KEYS; k++) {
+                map.put(keys[k], values[k]);
+            }
+            objects[i] = map;
+        }
+        return objects;
+    }
+
+    /**
+     * 解析产生的全部分配，key经过规范化后不再为每个对象创建
+     */
+    @Benchmark
+    public Object parse() throws IOException {
+        return Json.parseToJsonArray(json);
+    }
+
+}
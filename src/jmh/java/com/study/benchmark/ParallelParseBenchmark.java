@@ -0,0 +1,62 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.enums.ParseEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 约64MB的大数组，对比顺序解析与不同并行度下的并行解析耗时
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ParallelParseBenchmark {
+
+    private static final int SIZE = 64 << 20;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private byte[] bytes;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(SIZE + 1024).append('[');
+        for (int i = 0; builder.length() < SIZE; i++) {
+            builder.append(i == 0 ? "" : ",");
+            Corpus.user(builder, random, i);
+        }
+        bytes = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Object sequential() throws IOException {
+        return Json.parse(bytes, ParseEngine.STRUCTURAL_INDEX);
+    }
+
+    @Benchmark
+    public Object parallel() {
+        return Json.parseParallel(bytes, pool);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.study.benchmark;
+
+import com.study.json.CharReader;
+import com.study.json.Json;
+import com.study.json.JsonHandler;
+import com.study.json.JsonParser;
+import com.study.json.JsonTokenizer;
+import com.study.json.pojo.Token;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 字符读取、词法解析和语法解析各阶段的基准测试，配合 -prof gc 查看分配速率
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+    @Param
+    private Corpus.Shape shape;
+
+    private String json;
+
+    private List<Token> tokens;
+
+    @Setup
+    public void setup() {
+        json = Corpus.generate(shape);
+        tokens = new JsonTokenizer().tokenizer(json);
+    }
+
+    @Benchmark
+    public int charReader() throws IOException {
+        int count = 0;
+        try (CharReader reader = new CharReader(json)) {
+            while (reader.hasMore()) {
+                reader.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Token> tokenizer() {
+        return new JsonTokenizer().tokenizer(json);
+    }
+
+    @Benchmark
+    public Object parserFromTokens() {
+        return new JsonParser(tokens).parse();
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return Json.parse(json);
+    }
+
+    /**
+     * 只提取MEDIUM中的score，其它形状没有匹配项，测的是跳过子树的速度
+     */
+    @Benchmark
+    public List<Object> select() {
+        return Json.select(new StringReader(json), "$.users[*].score");
+    }
+
+    @Benchmark
+    public void streamingTokens(Blackhole blackhole) {
+        JsonTokenizer tokenizer = new JsonTokenizer(new CharReader(json));
+        while (tokenizer.advance() != com.study.json.enums.TokenType.END_DOCUMENT) {
+            blackhole.consume(tokenizer.type());
+        }
+    }
+
+    @Benchmark
+    public void handler(Blackhole blackhole) {
+        Json.parse(json, new JsonHandler() {
+            @Override
+            public void key(CharSequence key) {
+                blackhole.consume(key.length());
+            }
+
+            @Override
+            public void stringValue(CharSequence value) {
+                blackhole.consume(value.length());
+            }
+
+            @Override
+            public void numberValue(long value) {
+                blackhole.consume(value);
+            }
+
+            @Override
+            public void numberValue(double value) {
+                blackhole.consume(value);
+            }
+        });
+    }
+
+}
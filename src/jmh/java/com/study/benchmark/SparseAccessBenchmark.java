@@ -0,0 +1,63 @@
+package com.study.benchmark;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 从200个key的对象中只读取少数几个key，对比完整解析与延迟解析
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseAccessBenchmark {
+
+    private static final int KEYS = 200;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < KEYS; i++) {
+            builder.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":");
+            // 一半是嵌套对象，一半是数字
+            if (i % 2 == 0) {
+                Corpus.user(builder, random, i);
+            } else {
+                builder.append(random.nextDouble());
+            }
+        }
+        json = builder.append('}').toString();
+    }
+
+    @Benchmark
+    public void full(Blackhole blackhole) throws IOException {
+        JsonObject object = Json.parseToJsonObject(json);
+        read(object, blackhole);
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        JsonObject object = (JsonObject) Json.parseLazy(json);
+        read(object, blackhole);
+    }
+
+    private static void read(JsonObject object, Blackhole blackhole) {
+        blackhole.consume(object.get("field1"));
+        blackhole.consume(object.getJsonObject("field100").get("name"));
+        blackhole.consume(object.get("field199"));
+    }
+
+}
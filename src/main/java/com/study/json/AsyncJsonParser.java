@@ -0,0 +1,480 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.NumberBuilder;
+import com.study.json.util.NumberUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 推送式的非阻塞解析器。调用方每收到一段UTF-8字节就通过 {@link #feed(ByteBuffer)} 交给解析器，
+ * 输入结束时调用 {@link #endOfInput()}，结果通过 {@link #result()} 返回。
+ * 字符串、转义序列、多字节字符、数字和字面量都可以在任意位置被切断，解析状态保存在对象中，下一段数据到达时继续；
+ * 嵌套结构使用显式的栈，不依赖调用栈。解析器本身不做任何IO，不会阻塞调用线程，不是线程安全的
+ **/
+public final class AsyncJsonParser {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private static final char REPLACEMENT = '�';
+
+    /**
+     * 各长度序列允许的最小码点，用于识别超长编码
+     */
+    private static final int[] MIN_CODE_POINTS = {0, 0, 0x80, 0x800, 0x10000};
+
+    /**
+     * 词法状态
+     */
+    private static final int LEX_IDLE = 0;
+    private static final int LEX_STRING = 1;
+    private static final int LEX_ESCAPE = 2;
+    private static final int LEX_UNICODE = 3;
+    private static final int LEX_NUMBER = 4;
+    private static final int LEX_LITERAL = 5;
+
+    /**
+     * 语法状态：下一个Token应该是什么
+     */
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_VALUE_OR_END = 1;
+    private static final int EXPECT_KEY = 2;
+    private static final int EXPECT_KEY_OR_END = 3;
+    private static final int EXPECT_COLON = 4;
+    private static final int EXPECT_COMMA_OR_END = 5;
+    private static final int EXPECT_NOTHING = 6;
+
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private int lexState = LEX_IDLE;
+
+    private int expect = EXPECT_VALUE;
+
+    /**
+     * 字符串和数字的字符内容
+     */
+    private final StringBuilder valueBuffer = new StringBuilder();
+
+    private final NumberBuilder number = new NumberBuilder();
+
+    /**
+     * 未读完的UTF-8序列
+     */
+    private int utf8Remaining;
+    private int utf8Length;
+    private int codePoint;
+
+    /**
+     * 未读完的 \\uXXXX
+     */
+    private int unicodeDigits;
+    private int unicodeValue;
+
+    /**
+     * 未读完的字面量
+     */
+    private String literal;
+    private int literalIndex;
+
+    /**
+     * 正在构建的对象和数组，以及每一层对象中等待值的key
+     */
+    private Object[] containers = new Object[16];
+    private String[] keys = new String[16];
+    private int depth;
+
+    private Object root;
+
+    /**
+     * 已处理的字节数，用于错误信息
+     */
+    private long position;
+
+    /**
+     * 读取通道中的全部内容并解析，不阻塞调用线程，读取完成后关闭通道由调用方负责
+     *
+     * @param channel 例如 AsynchronousSocketChannel
+     * @return
+     */
+    public static CompletableFuture<Object> parse(AsynchronousByteChannel channel) {
+        AsyncJsonParser parser = new AsyncJsonParser();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        channel.read(buffer, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer n, Void attachment) {
+                parser.accept(buffer, n, () -> channel.read(buffer, null, this));
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                parser.result.completeExceptionally(e);
+            }
+        });
+        return parser.result();
+    }
+
+    /**
+     * 从头读取文件的全部内容并解析，不阻塞调用线程
+     *
+     * @param channel
+     * @return
+     */
+    public static CompletableFuture<Object> parse(AsynchronousFileChannel channel) {
+        AsyncJsonParser parser = new AsyncJsonParser();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        channel.read(buffer, 0, 0L, new CompletionHandler<Integer, Long>() {
+            @Override
+            public void completed(Integer n, Long offset) {
+                long next = offset + n;
+                parser.accept(buffer, n, () -> channel.read(buffer, next, next, this));
+            }
+
+            @Override
+            public void failed(Throwable e, Long offset) {
+                parser.result.completeExceptionally(e);
+            }
+        });
+        return parser.result();
+    }
+
+    /**
+     * 处理一次异步读取的结果，输入未结束时发起下一次读取
+     *
+     * @param readNext 发起下一次读取
+     */
+    private void accept(ByteBuffer buffer, int n, Runnable readNext) {
+        try {
+            if (n < 0) {
+                endOfInput();
+                return;
+            }
+            buffer.flip();
+            feed(buffer);
+            buffer.clear();
+            readNext.run();
+        } catch (RuntimeException e) {
+            // 语法错误已经记录在结果中，其它异常同样要结束结果，否则调用方会一直等待
+            if (!result.isDone()) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 解析结果，输入结束后完成；出现语法错误时以 {@link JsonParseException} 异常完成
+     *
+     * @return
+     */
+    public CompletableFuture<Object> result() {
+        return result;
+    }
+
+    /**
+     * 处理一段字节，读取缓冲区position到limit之间的全部内容
+     *
+     * @param chunk
+     */
+    public void feed(ByteBuffer chunk) {
+
+        if (result.isDone()) {
+            throw new IllegalStateException("Parser is already completed");
+        }
+
+        try {
+            while (chunk.hasRemaining()) {
+                byte b = chunk.get();
+                process(b);
+                position++;
+            }
+        } catch (JsonParseException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 输入结束，检查文档是否完整并完成结果
+     */
+    public void endOfInput() {
+
+        if (result.isDone()) {
+            throw new IllegalStateException("Parser is already completed");
+        }
+
+        try {
+            if (lexState == LEX_NUMBER) {
+                finishNumber();
+            } else if (lexState != LEX_IDLE) {
+                throw new JsonParseException("Unexpected end of JSON at position " + position);
+            }
+            if (expect != EXPECT_NOTHING) {
+                throw new JsonParseException(depth == 0 && expect == EXPECT_VALUE ? "Empty json" : "Unexpected end of JSON at position " + position);
+            }
+        } catch (JsonParseException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+
+        result.complete(root);
+    }
+
+    private void process(byte b) {
+        switch (lexState) {
+            case LEX_STRING -> stringByte(b);
+            case LEX_ESCAPE -> escapeByte(b);
+            case LEX_UNICODE -> unicodeByte(b);
+            case LEX_NUMBER -> {
+                if (isNumberByte(b)) {
+                    valueBuffer.append((char) b);
+                } else {
+                    // 数字在遇到第一个不属于数字的字节时结束，该字节按普通Token处理
+                    finishNumber();
+                    idleByte(b);
+                }
+            }
+            case LEX_LITERAL -> {
+                if (b != literal.charAt(literalIndex)) {
+                    throw unexpected(b);
+                }
+                if (++literalIndex == literal.length()) {
+                    lexState = LEX_IDLE;
+                    value(literalValue(literal));
+                }
+            }
+            default -> idleByte(b);
+        }
+    }
+
+    private void idleByte(byte b) {
+        switch (b) {
+            case ' ', '\t', '\n', '\r' -> {
+            }
+            case '{' -> begin(new JsonObject(), EXPECT_KEY_OR_END);
+            case '[' -> begin(new JsonArray(), EXPECT_VALUE_OR_END);
+            case '}' -> end(JsonObject.class, EXPECT_KEY_OR_END, b);
+            case ']' -> end(JsonArray.class, EXPECT_VALUE_OR_END, b);
+            case ':' -> {
+                if (expect != EXPECT_COLON) {
+                    throw unexpected(b);
+                }
+                expect = EXPECT_VALUE;
+            }
+            case ',' -> {
+                if (expect != EXPECT_COMMA_OR_END) {
+                    throw unexpected(b);
+                }
+                expect = containers[depth - 1] instanceof JsonObject ? EXPECT_KEY : EXPECT_VALUE;
+            }
+            case '"' -> {
+                if (!expectsValue() && expect != EXPECT_KEY && expect != EXPECT_KEY_OR_END) {
+                    throw unexpected(b);
+                }
+                valueBuffer.setLength(0);
+                lexState = LEX_STRING;
+            }
+            case 't', 'f', 'n' -> {
+                if (!expectsValue()) {
+                    throw unexpected(b);
+                }
+                literal = b == 't' ? "true" : b == 'f' ? "false" : "null";
+                literalIndex = 1;
+                lexState = LEX_LITERAL;
+            }
+            default -> {
+                if (b != '-' && (b < '0' || b > '9') || !expectsValue()) {
+                    throw unexpected(b);
+                }
+                valueBuffer.setLength(0);
+                valueBuffer.append((char) b);
+                lexState = LEX_NUMBER;
+            }
+        }
+    }
+
+    private void stringByte(byte b) {
+
+        if (utf8Remaining > 0) {
+            if ((b & 0xC0) == 0x80) {
+                codePoint = (codePoint << 6) | (b & 0x3F);
+                if (--utf8Remaining == 0) {
+                    appendCodePoint();
+                }
+                return;
+            }
+            // 缺少后续字节，当前字节重新处理
+            utf8Remaining = 0;
+            valueBuffer.append(REPLACEMENT);
+        }
+
+        if (b == '"') {
+            lexState = LEX_IDLE;
+            finishString();
+        } else if (b == '\\') {
+            lexState = LEX_ESCAPE;
+        } else if (b >= 0x20) {
+            valueBuffer.append((char) b);
+        } else if (b >= 0) {
+            throw new JsonParseException("Invalid control character in string at position " + position);
+        } else {
+            int lead = b & 0xFF;
+            utf8Length = (lead & 0xE0) == 0xC0 ? 2 : (lead & 0xF0) == 0xE0 ? 3 : (lead & 0xF8) == 0xF0 ? 4 : 0;
+            if (utf8Length == 0) {
+                valueBuffer.append(REPLACEMENT);
+            } else {
+                codePoint = lead & (0x7F >> utf8Length);
+                utf8Remaining = utf8Length - 1;
+            }
+        }
+    }
+
+    private void appendCodePoint() {
+        if (codePoint < MIN_CODE_POINTS[utf8Length] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            // 超长编码或代理区
+            valueBuffer.append(REPLACEMENT);
+        } else {
+            valueBuffer.appendCodePoint(codePoint);
+        }
+    }
+
+    private void escapeByte(byte b) {
+        lexState = LEX_STRING;
+        switch (b) {
+            case '"', '\\', '/' -> valueBuffer.append((char) b);
+            case 'b' -> valueBuffer.append('\b');
+            case 'f' -> valueBuffer.append('\f');
+            case 'n' -> valueBuffer.append('\n');
+            case 'r' -> valueBuffer.append('\r');
+            case 't' -> valueBuffer.append('\t');
+            case 'u' -> {
+                lexState = LEX_UNICODE;
+                unicodeDigits = 0;
+                unicodeValue = 0;
+            }
+            default -> throw new JsonParseException("Invalid escape character: \\" + (char) (b & 0xFF));
+        }
+    }
+
+    private void unicodeByte(byte b) {
+        int digit = Character.digit(b, 16);
+        if (digit < 0) {
+            throw new JsonParseException("Invalid unicode escape at position " + position);
+        }
+        unicodeValue = (unicodeValue << 4) | digit;
+        if (++unicodeDigits == 4) {
+            valueBuffer.append((char) unicodeValue);
+            lexState = LEX_STRING;
+        }
+    }
+
+    private void finishString() {
+        if (expect == EXPECT_KEY || expect == EXPECT_KEY_OR_END) {
+            keys[depth - 1] = SymbolTable.SHARED.intern(valueBuffer);
+            expect = EXPECT_COLON;
+        } else {
+            value(valueBuffer.toString());
+        }
+    }
+
+    private void finishNumber() {
+
+        lexState = LEX_IDLE;
+        try {
+            NumberUtils.scan(valueBuffer, number);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException("Invalid number '" + valueBuffer + "' at position " + position, e);
+        }
+
+        if (depth > 0 && containers[depth - 1] instanceof JsonArray array) {
+            // 数字直接写入数组，同一种数字组成的数组不创建包装对象
+            double value;
+            if (number.isLong()) {
+                array.addLong(number.longValue(valueBuffer));
+            } else if (!number.isIntegral() && Double.isFinite(value = number.doubleValue(valueBuffer))) {
+                array.addDouble(value);
+            } else {
+                // 超出long或double范围
+                array.add(number.toNumber(valueBuffer));
+            }
+            expect = EXPECT_COMMA_OR_END;
+            return;
+        }
+
+        value(number.toNumber(valueBuffer));
+    }
+
+    private static Object literalValue(String literal) {
+        return switch (literal) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    private void begin(Object container, int next) {
+
+        if (!expectsValue()) {
+            throw unexpected((byte) (container instanceof JsonObject ? '{' : '['));
+        }
+
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            keys = Arrays.copyOf(keys, depth * 2);
+        }
+        containers[depth++] = container;
+        expect = next;
+    }
+
+    private void end(Class<?> type, int emptyState, byte b) {
+
+        if (depth == 0 || !type.isInstance(containers[depth - 1])
+                || (expect != EXPECT_COMMA_OR_END && expect != emptyState)) {
+            throw unexpected(b);
+        }
+
+        Object container = containers[--depth];
+        containers[depth] = null;
+        keys[depth] = null;
+        value(container);
+    }
+
+    /**
+     * 完成一个值，写入所在的对象或数组
+     */
+    private void value(Object value) {
+
+        if (depth == 0) {
+            root = value;
+            expect = EXPECT_NOTHING;
+            return;
+        }
+
+        Object container = containers[depth - 1];
+        if (container instanceof JsonObject object) {
+            object.put(keys[depth - 1], value);
+        } else {
+            ((JsonArray) container).add(value);
+        }
+        expect = EXPECT_COMMA_OR_END;
+    }
+
+    private boolean expectsValue() {
+        return expect == EXPECT_VALUE || expect == EXPECT_VALUE_OR_END;
+    }
+
+    private static boolean isNumberByte(byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    private JsonParseException unexpected(byte b) {
+        return new JsonParseException("Unexpected character '" + (char) (b & 0xFF) + "' at position " + position);
+    }
+
+}
@@ -16,7 +16,7 @@ public class CharReader implements Closeable {
     /**
      * 底层字符输入流
      */
-    private final Reader reader;
+    private Reader reader;
 
     /**
      * 缓冲区
@@ -26,7 +26,7 @@ public class CharReader implements Closeable {
     /**
      * 默认缓冲区大小
      */
-    private static final int BUFFER_SIZE = 8192;
+    protected static final int BUFFER_SIZE = 8192;
 
     /**
      * 当前读取位置
@@ -72,6 +72,40 @@ public class CharReader implements Closeable {
         this.size = 0;
     }
 
+    /**
+     * 供子类使用，字符来源由子类重写 {@link #read(char[])} 提供
+     *
+     * @param bufferSize
+     */
+    protected CharReader(int bufferSize) {
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize is invalid");
+        }
+
+        this.reader = null;
+        this.buffer = new char[bufferSize];
+        this.pos = 0;
+        this.size = 0;
+    }
+
+    /**
+     * 复用缓冲区读取新的字符输入流，不关闭原来的输入流。只用于直接读取Reader的实例
+     *
+     * @param reader
+     */
+    void reset(Reader reader) {
+
+        if (Objects.isNull(reader)) {
+            throw new IllegalArgumentException("reader is null");
+        }
+
+        this.reader = reader;
+        this.pos = 0;
+        this.size = 0;
+        this.currentChar = EOF;
+    }
+
     /**
      * 查看当前位置字符
      *
@@ -141,7 +175,7 @@ public class CharReader implements Closeable {
      */
     private void fillBuffer() throws IOException {
 
-        int n = reader.read(buffer);
+        int n = read(buffer);
 
         // 没有数据了
         if (n == -1) {
@@ -155,6 +189,76 @@ public class CharReader implements Closeable {
         currentChar = buffer[pos];
     }
 
+    /**
+     * 从字符来源读取数据填充缓冲区
+     *
+     * @param buffer
+     * @return 读取的字符数，没有数据时返回-1
+     * @throws IOException
+     */
+    protected int read(char[] buffer) throws IOException {
+        return reader.read(buffer);
+    }
+
+    /**
+     * 将字符串中不需要特殊处理的连续字符整段追加到builder，
+     * 遇到引号、反斜杠、控制字符或输入结束时停止，停止处的字符不读取
+     *
+     * @param builder
+     * @throws IOException
+     */
+    public void readStringRun(StringBuilder builder) throws IOException {
+        while (hasMore()) {
+            int start = pos;
+            int end = scanStringRun(start);
+            builder.append(buffer, start, end - start);
+            moveTo(end);
+            if (end < size) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 与 {@link #readStringRun(StringBuilder)} 相同，但不保存字符
+     *
+     * @throws IOException
+     */
+    public void skipStringRun() throws IOException {
+        while (hasMore()) {
+            int end = scanStringRun(pos);
+            moveTo(end);
+            if (end < size) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 在缓冲区中查找第一个引号、反斜杠或控制字符
+     *
+     * @param from
+     * @return 找不到时返回size
+     */
+    private int scanStringRun(int from) {
+        char[] buf = buffer;
+        int end = size;
+        int i = from;
+        while (i < end) {
+            char ch = buf[i];
+            if (ch == '"' || ch == '\\' || ch < 0x20) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private void moveTo(int position) {
+        pos = position;
+        currentChar = (pos < size) ? buffer[pos] : EOF;
+    }
+
     /**
      * 跳过空白字符
      *
@@ -172,6 +276,8 @@ public class CharReader implements Closeable {
 
     @Override
     public void close() throws IOException {
-        reader.close();
+        if (reader != null) {
+            reader.close();
+        }
     }
 }
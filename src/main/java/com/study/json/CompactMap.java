@@ -0,0 +1,335 @@
+package com.study.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description JsonObject使用的紧凑Map，key和value按插入顺序保存在两个数组中，不为每个键值对创建节点。
+ * 少量key时顺序比较（key通常已被 {@link SymbolTable} 规范化，先比较引用），
+ * key较多时额外建立开放寻址的哈希索引，索引中只保存数组下标
+ **/
+final class CompactMap extends AbstractMap<String, Object> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * 超过该数量后建立哈希索引
+     */
+    private static final int LINEAR_LIMIT = 16;
+
+    private String[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    /**
+     * 开放寻址的哈希索引，保存数组下标+1，0表示空槽；key较少时为null
+     */
+    private int[] index;
+
+    private int modCount;
+
+    /**
+     * 冻结后不能再修改
+     */
+    private boolean frozen;
+
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    CompactMap() {
+        this.keys = new String[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * 冻结，之后所有修改操作抛出 {@link UnsupportedOperationException}。
+     * 数组收缩到实际大小，不再保留扩容的余量
+     */
+    void freeze() {
+        if (keys.length != size) {
+            keys = Arrays.copyOf(keys, size);
+            values = Arrays.copyOf(values, size);
+        }
+        entrySet = null;
+        frozen = true;
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int i = indexOf((String) key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+
+        Objects.requireNonNull(key, "key");
+        checkMutable();
+
+        int i = indexOf(key);
+        if (i >= 0) {
+            Object old = values[i];
+            values[i] = value;
+            return old;
+        }
+
+        if (size == keys.length) {
+            int capacity = size + (size >> 1);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+
+        if (index != null) {
+            if (size * 2 > index.length) {
+                rehash();
+            } else {
+                insertIndex(size - 1);
+            }
+        } else if (size > LINEAR_LIMIT) {
+            rehash();
+        }
+
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        checkMutable();
+        int i = indexOf((String) key);
+        return i >= 0 ? removeAt(i) : null;
+    }
+
+    @Override
+    public void clear() {
+        checkMutable();
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("JsonObject is frozen");
+        }
+    }
+
+    private int indexOf(String key) {
+
+        if (index == null) {
+            // 规范化的key直接比较引用，其它key先比较String中缓存的哈希值
+            int h = key.hashCode();
+            for (int i = 0; i < size; i++) {
+                String candidate = keys[i];
+                if (candidate == key || (candidate.hashCode() == h && candidate.equals(key))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int i = index[slot] - 1;
+            if (i < 0) {
+                return -1;
+            }
+            String candidate = keys[i];
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+    }
+
+    private Object removeAt(int i) {
+        Object old = values[i];
+        int moved = size - i - 1;
+        System.arraycopy(keys, i + 1, keys, i, moved);
+        System.arraycopy(values, i + 1, values, i, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        // 删除后下标整体变化，重建索引
+        index = null;
+        if (size > LINEAR_LIMIT) {
+            rehash();
+        }
+        return old;
+    }
+
+    /**
+     * 按当前数量重建索引，负载因子不超过0.5
+     */
+    private void rehash() {
+        int capacity = Integer.highestOneBit(size * 4 - 1);
+        index = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insertIndex(i);
+        }
+    }
+
+    private void insertIndex(int i) {
+        int mask = index.length - 1;
+        int slot = hash(keys[i]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = i + 1;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+
+        private int last = -1;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            checkMutable();
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+    }
+
+    /**
+     * 直接读写数组的键值对视图
+     */
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int i;
+
+        private final String key;
+
+        private Entry(int i) {
+            this.i = i;
+            this.key = keys[i];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return values[i];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            checkMutable();
+            Object old = values[i];
+            values[i] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+}
@@ -1,29 +1,325 @@
 package com.study.json;
 
+import com.study.json.enums.BindingBackend;
+import com.study.json.enums.ParseEngine;
 import com.study.json.exception.JsonParseException;
-import com.study.json.pojo.Token;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * @author 王文涛
  */
 public class Json {
+    /**
+     * 解析json字符串，缓冲区在同一线程的多次调用之间复用，见 {@link JsonParserContext}
+     *
+     * @param jsonString
+     * @return
+     * @throws IOException
+     */
     public static Object parse(String jsonString) throws IOException {
-        try (StringReader reader = new StringReader(jsonString)) {
+        return JsonParserContext.local().parse(jsonString);
+    }
+
+    public static Object parse(Reader reader) throws IOException {
+        return JsonParserContext.local().parse(reader);
+    }
+
+    /**
+     * 事件式解析，按文档顺序回调handler，不构建JsonObject和JsonArray
+     *
+     * @param jsonString
+     * @param handler
+     */
+    public static void parse(String jsonString, JsonHandler handler) {
+        JsonParserContext.local().parse(new StringReader(jsonString), handler);
+    }
+
+    public static void parse(Reader reader, JsonHandler handler) {
+        JsonParserContext.local().parse(reader, handler);
+    }
+
+    /**
+     * 解析UTF-8编码的字节数组
+     *
+     * @param bytes
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(byte[] bytes) throws IOException {
+        return parse(new Utf8Reader(bytes));
+    }
+
+    /**
+     * 使用指定的解析引擎解析UTF-8编码的字节数组
+     *
+     * @param bytes
+     * @param engine
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(byte[] bytes, ParseEngine engine) throws IOException {
+        if (engine == ParseEngine.STRUCTURAL_INDEX) {
+            return new StructuralParser(bytes).parse();
+        }
+        return parse(bytes);
+    }
+
+    /**
+     * 使用公共ForkJoinPool并行解析UTF-8编码的大数组，见 {@link #parseParallel(byte[], ForkJoinPool)}
+     *
+     * @param bytes
+     * @return
+     */
+    public static Object parseParallel(byte[] bytes) {
+        return parseParallel(bytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行解析UTF-8编码的大数组：找出顶层数组中元素之间的分隔位置后，分段在线程池中解析，按顺序拼接为一个JsonArray。
+     * 顶层不是数组或输入小于1MB时按顺序解析
+     *
+     * @param bytes
+     * @param pool
+     * @return
+     */
+    public static Object parseParallel(byte[] bytes, ForkJoinPool pool) {
+        return new ParallelParser(bytes, pool).parse();
+    }
+
+    /**
+     * 并行解析文件中的大数组，文件需要整体读入内存，不能超过2GB
+     *
+     * @param path
+     * @param pool
+     * @return
+     * @throws IOException
+     */
+    public static Object parseParallel(Path path, ForkJoinPool pool) throws IOException {
+        return parseParallel(Files.readAllBytes(path), pool);
+    }
+
+    /**
+     * 异步读取并解析，读取过程不阻塞调用线程，适合在虚拟线程或事件循环中使用
+     *
+     * @param channel 例如 AsynchronousSocketChannel
+     * @return
+     */
+    public static CompletableFuture<Object> parseAsync(AsynchronousByteChannel channel) {
+        return AsyncJsonParser.parse(channel);
+    }
+
+    /**
+     * 异步读取并解析整个文件
+     *
+     * @param channel
+     * @return
+     */
+    public static CompletableFuture<Object> parseAsync(AsynchronousFileChannel channel) {
+        return AsyncJsonParser.parse(channel);
+    }
+
+    /**
+     * 使用指定的解析引擎解析字符串，结构索引引擎会先将字符串编码为UTF-8
+     *
+     * @param jsonString
+     * @param engine
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(String jsonString, ParseEngine engine) throws IOException {
+        if (engine == ParseEngine.STRUCTURAL_INDEX) {
+            return new StructuralParser(jsonString.getBytes(StandardCharsets.UTF_8)).parse();
+        }
+        return parse(jsonString);
+    }
+
+    /**
+     * 解析UTF-8编码的字节缓冲区中position到limit之间的内容
+     *
+     * @param byteBuffer
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(ByteBuffer byteBuffer) throws IOException {
+        return parse(new Utf8Reader(byteBuffer));
+    }
+
+    /**
+     * 解析UTF-8编码的输入流，不关闭输入流
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(InputStream inputStream) throws IOException {
+        return parse(new Utf8Reader(inputStream));
+    }
+
+    /**
+     * 通过内存映射解析UTF-8编码的文件，文件内容不会整体读入堆内存
+     *
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    public static Object parse(Path path) throws IOException {
+        try (MappedFileReader reader = new MappedFileReader(path)) {
             return parse(reader);
         }
     }
 
-    public static Object parse(Reader reader) throws IOException {
-        CharReader charReader = new CharReader(reader);
-        JsonTokenizer tokenizer = new JsonTokenizer();
-        List<Token> tokens = tokenizer.tokenizer(charReader);
-        JsonParser parser = new JsonParser(tokens);
+    /**
+     * 逐个读取顶层数组的元素，元素在迭代时才解析
+     *
+     * @param reader
+     * @param type   元素类型，Object或JsonObject时保留树结构
+     * @return
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(Reader reader, Class<T> type) {
+        return new JsonArrayIterator<>(new JsonReader(reader), type);
+    }
+
+    /**
+     * 以流的形式逐个读取文件中顶层数组的元素，使用完毕后需要关闭流以释放文件
+     *
+     * @param path
+     * @param type 元素类型，Object或JsonObject时保留树结构
+     * @return
+     * @throws IOException
+     */
+    public static <T> Stream<T> streamArray(Path path, Class<T> type) throws IOException {
+        MappedFileReader reader = new MappedFileReader(path);
+        try {
+            return new JsonArrayIterator<>(new JsonReader(reader), type).stream();
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 以响应式流的形式发布顶层数组的元素，按订阅者的请求逐个解析
+     *
+     * @param reader
+     * @param type     元素类型，Object或JsonObject时保留树结构
+     * @param executor 执行解析和回调
+     * @return
+     */
+    public static <T> Flow.Publisher<T> publishArray(Reader reader, Class<T> type, Executor executor) {
+        return new JsonArrayPublisher<>(new JsonReader(reader), type, executor);
+    }
+
+    /**
+     * 以响应式流的形式发布文件中顶层数组的元素，文件在流结束或取消订阅时关闭
+     *
+     * @param path
+     * @param type     元素类型，Object或JsonObject时保留树结构
+     * @param executor 执行解析和回调
+     * @return
+     * @throws IOException
+     */
+    public static <T> Flow.Publisher<T> publishArray(Path path, Class<T> type, Executor executor) throws IOException {
+        return new JsonArrayPublisher<>(new JsonReader(new MappedFileReader(path)), type, executor);
+    }
+
+    /**
+     * 按JSONPath表达式流式提取匹配的值，例如 {@code $.items[*].price}，不匹配的子树直接跳过
+     *
+     * @param reader
+     * @param path
+     * @return 匹配的值，对象和数组保留树结构
+     */
+    public static List<Object> select(Reader reader, String path) {
+        return select(reader, path, Object.class);
+    }
+
+    /**
+     * 按JSONPath表达式流式提取匹配的值，并转换为指定类型
+     *
+     * @param reader
+     * @param path
+     * @param type
+     * @return
+     */
+    public static <T> List<T> select(Reader reader, String path, Class<T> type) {
+        return JsonPath.compile(path).select(new JsonReader(reader), type);
+    }
+
+    /**
+     * 按JSONPath表达式从文件中流式提取匹配的值，文件通过内存映射读取
+     *
+     * @param path
+     * @param jsonPath
+     * @param type
+     * @return
+     * @throws IOException
+     */
+    public static <T> List<T> select(Path path, String jsonPath, Class<T> type) throws IOException {
+        try (JsonReader reader = new JsonReader(new MappedFileReader(path))) {
+            return JsonPath.compile(jsonPath).select(reader, type);
+        }
+    }
+
+    /**
+     * 解析为冻结的树，见 {@link JsonObject#freeze()}，结果可以直接在线程之间共享
+     *
+     * @param jsonString
+     * @return 冻结的JsonObject、JsonArray或标量
+     */
+    public static Object parseImmutable(String jsonString) {
+        return freeze(JsonParserContext.local().parse(jsonString));
+    }
+
+    /**
+     * 使用结构索引引擎解析UTF-8字节数组为冻结的树
+     *
+     * @param bytes
+     * @return 冻结的JsonObject、JsonArray或标量
+     */
+    public static Object parseImmutable(byte[] bytes) {
+        return freeze(new StructuralParser(bytes).parse());
+    }
+
+    private static Object freeze(Object value) {
+        JsonObject.freezeValue(value);
+        VarHandle.releaseFence();
+        return value;
+    }
+
+    /**
+     * 延迟解析，返回的 {@link JsonObject} / {@link JsonArray} 保留源字符串，只在访问时才解码对应的值，
+     * 适合只读取少数字段的场景。跳过的子树只做括号匹配，其中的语法错误在访问到时才会抛出
+     *
+     * @param jsonString
+     * @return
+     */
+    public static Object parseLazy(String jsonString) {
+        return LazyScanner.parse(jsonString);
+    }
+
+    private static Object parse(CharReader charReader) {
+        JsonParser parser = new JsonParser(new JsonReader(charReader));
         return parser.parse();
     }
 
@@ -36,13 +332,25 @@ public class Json {
     }
 
     public static <T> T parseToClass(String jsonString, Class<T> clazz) throws IOException, NoSuchFieldException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
-        Object result = parse(jsonString);
+        return parseToClass(jsonString, clazz, BindingBackend.REFLECTION);
+    }
 
-        if (result instanceof JsonObject) {
-            return ((JsonObject) result).convertClass(clazz);
+    /**
+     * 将json字符串直接绑定到指定的类，读取Token时即写入目标对象，不构建中间的JsonObject树
+     *
+     * @param jsonString
+     * @param clazz
+     * @param backend 属性访问方式
+     * @return
+     */
+    public static <T> T parseToClass(String jsonString, Class<T> clazz, BindingBackend backend) throws IOException, NoSuchFieldException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
+        try (StringReader reader = new StringReader(jsonString)) {
+            return parseToClass(reader, clazz, backend);
         }
+    }
 
-        throw new JsonParseException("Not a JSON Object");
+    public static <T> T parseToClass(Reader reader, Class<T> clazz, BindingBackend backend) throws IOException, NoSuchFieldException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
+        return JsonParserContext.local().parseToClass(reader, clazz, backend);
     }
 
     public static JsonArray parseToJsonArray(String jsonString) throws IOException {
@@ -52,4 +360,53 @@ public class Json {
         }
         throw new JsonParseException("Not a JSON Array");
     }
-}
\ No newline at end of file
+
+    /**
+     * 序列化为json字符串
+     *
+     * @param value JsonObject、JsonArray、集合、数组或普通Java对象
+     * @return
+     */
+    public static String toJson(Object value) {
+        JsonWriter writer = new JsonWriter();
+        try {
+            writer.writeValue(value);
+        } catch (IOException e) {
+            // 写入内存不会发生IO异常
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    public static void write(Object value, Writer writer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.writeValue(value);
+        jsonWriter.flush();
+    }
+
+    /**
+     * 以UTF-8编码序列化到输出流
+     *
+     * @param value
+     * @param outputStream
+     * @throws IOException
+     */
+    public static void write(Object value, OutputStream outputStream) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(outputStream);
+        jsonWriter.writeValue(value);
+        jsonWriter.flush();
+    }
+
+    /**
+     * 以UTF-8编码序列化到字节缓冲区，从缓冲区当前位置开始写入
+     *
+     * @param value
+     * @param byteBuffer
+     * @throws IOException
+     */
+    public static void write(Object value, ByteBuffer byteBuffer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(byteBuffer);
+        jsonWriter.writeValue(value);
+        jsonWriter.flush();
+    }
+}
@@ -1,39 +1,264 @@
 package com.study.json;
 
 import com.study.json.exception.JsonParseException;
+import com.study.json.util.NumberUtils;
 
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 /**
  * @author 王文涛
  * @date 2025/4/3
- * @description
+ * @description json数组。元素全部是整数或全部是浮点数时保存在long[]或double[]中，不为每个元素创建包装对象；
+ * 读取时仍按Integer、Long、Double返回，与通用存储的结果一致
  **/
 public class JsonArray implements Iterable<Object> {
 
+    private static final int INITIAL_CAPACITY = 10;
+
+    /**
+     * 通用存储，为null时使用下面的基本类型数组
+     */
     private List<Object> list;
 
+    /**
+     * 全部为整数时的存储，int范围内的值对应Integer，其它对应Long
+     */
+    private long[] longs;
+
+    /**
+     * 全部为Double时的存储
+     */
+    private double[] doubles;
+
+    /**
+     * 基本类型数组中的元素个数
+     */
+    private int size;
+
+    /**
+     * 冻结后不能再修改
+     */
+    private boolean frozen;
+
     public JsonArray() {
-        list = new ArrayList<>();
     }
 
+    /**
+     * 添加元素。元素全部是同一种数字时保存在基本类型数组中，出现其它元素后转换为通用存储
+     *
+     * @param obj
+     */
     public void add(Object obj) {
+
+        checkMutable();
+        if (list == null) {
+            if (doubles == null && obj instanceof Integer value) {
+                appendLong(value);
+                return;
+            }
+            if (doubles == null && obj instanceof Long value && (int) value.longValue() != value) {
+                // int范围内的Long无法与Integer区分，使用通用存储
+                appendLong(value);
+                return;
+            }
+            if (longs == null && obj instanceof Double value) {
+                appendDouble(value);
+                return;
+            }
+            toGeneric();
+        }
+
         list.add(obj);
     }
 
+    /**
+     * 添加整数，不创建包装对象，读取时int范围内的值返回Integer，其它返回Long
+     *
+     * @param value
+     */
+    public void addLong(long value) {
+        checkMutable();
+        if (list == null && doubles == null) {
+            appendLong(value);
+        } else if ((int) value == value) {
+            add((int) value);
+        } else {
+            add(value);
+        }
+    }
+
+    /**
+     * 添加浮点数，不创建包装对象
+     *
+     * @param value
+     */
+    public void addDouble(double value) {
+        checkMutable();
+        if (list == null && longs == null) {
+            appendDouble(value);
+        } else {
+            add(value);
+        }
+    }
+
+    /**
+     * 按顺序追加另一个数组的全部元素，两者使用同一种基本类型存储时直接复制数组
+     *
+     * @param other
+     */
+    void addAll(JsonArray other) {
+
+        checkMutable();
+        if (list == null && other.list == null && other.size > 0) {
+            if (other.longs != null && doubles == null) {
+                longs = append(longs, size, other.longs, other.size);
+                size += other.size;
+                return;
+            }
+            if (other.doubles != null && longs == null) {
+                doubles = append(doubles, size, other.doubles, other.size);
+                size += other.size;
+                return;
+            }
+        }
+
+        if (other.list != null) {
+            if (list == null) {
+                toGeneric();
+            }
+            list.addAll(other.list);
+            return;
+        }
+
+        for (Object value : other) {
+            add(value);
+        }
+    }
+
+    /**
+     * 冻结数组及其中所有的对象和数组，之后不能再修改，存储收缩到实际大小。
+     * 冻结完成后的数组可以直接发布给其它线程读取，不需要复制或加锁
+     *
+     * @return 当前数组
+     */
+    public JsonArray freeze() {
+        freezeTree();
+        VarHandle.releaseFence();
+        return this;
+    }
+
+    void freezeTree() {
+
+        if (frozen) {
+            return;
+        }
+
+        if (list != null) {
+            for (Object value : list) {
+                JsonObject.freezeValue(value);
+            }
+            // 定长列表，迭代器的remove同样不支持
+            list = Arrays.asList(list.toArray());
+        } else if (longs != null && longs.length != size) {
+            longs = Arrays.copyOf(longs, size);
+        } else if (doubles != null && doubles.length != size) {
+            doubles = Arrays.copyOf(doubles, size);
+        }
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("JsonArray is frozen");
+        }
+    }
+
+    private static long[] append(long[] target, int size, long[] source, int count) {
+        if (target == null || target.length < size + count) {
+            target = target == null ? new long[count] : Arrays.copyOf(target, Math.max(size + count, size + (size >> 1)));
+        }
+        System.arraycopy(source, 0, target, size, count);
+        return target;
+    }
+
+    private static double[] append(double[] target, int size, double[] source, int count) {
+        if (target == null || target.length < size + count) {
+            target = target == null ? new double[count] : Arrays.copyOf(target, Math.max(size + count, size + (size >> 1)));
+        }
+        System.arraycopy(source, 0, target, size, count);
+        return target;
+    }
+
+    private void appendLong(long value) {
+        if (longs == null) {
+            longs = new long[INITIAL_CAPACITY];
+        } else if (size == longs.length) {
+            longs = Arrays.copyOf(longs, size + (size >> 1));
+        }
+        longs[size++] = value;
+    }
+
+    private void appendDouble(double value) {
+        if (doubles == null) {
+            doubles = new double[INITIAL_CAPACITY];
+        } else if (size == doubles.length) {
+            doubles = Arrays.copyOf(doubles, size + (size >> 1));
+        }
+        doubles[size++] = value;
+    }
+
+    /**
+     * 转换为通用存储
+     */
+    private void toGeneric() {
+        List<Object> generic = new ArrayList<>(Math.max(size + 1, INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            generic.add(primitiveAt(i));
+        }
+        list = generic;
+        longs = null;
+        doubles = null;
+        size = 0;
+    }
+
+    private Object primitiveAt(int index) {
+        if (longs != null) {
+            long value = longs[index];
+            if ((int) value == value) {
+                return (int) value;
+            }
+            return value;
+        }
+        return doubles[index];
+    }
+
     public Object get(int index) {
-        return list.get(index);
+        if (list != null) {
+            return list.get(index);
+        }
+        Objects.checkIndex(index, size);
+        return primitiveAt(index);
     }
 
     public int size() {
-        return list.size();
+        return list != null ? list.size() : size;
     }
 
     public JsonObject getJsonObject(int index) {
 
-        Object obj = list.get(index);
+        Object obj = get(index);
 
         if (!(obj instanceof JsonObject)) {
             throw new JsonParseException("Type of value is not JsonObject");
@@ -44,7 +269,7 @@ public class JsonArray implements Iterable<Object> {
 
     public JsonArray getJsonArray(int index) {
 
-        Object obj = list.get(index);
+        Object obj = get(index);
 
         if (!(obj instanceof JsonArray)) {
             throw new JsonParseException("Type of value is not JsonArray");
@@ -53,8 +278,184 @@ public class JsonArray implements Iterable<Object> {
         return (JsonArray) obj;
     }
 
+    /**
+     * 读取long类型的元素，只接受long范围内的整数
+     *
+     * @param index
+     * @return
+     */
+    public long getLong(int index) {
+        if (longs != null) {
+            return longs[Objects.checkIndex(index, size)];
+        }
+        return NumberUtils.toLong(get(index));
+    }
+
+    /**
+     * 读取int类型的元素，只接受int范围内的整数
+     *
+     * @param index
+     * @return
+     */
+    public int getInt(int index) {
+        if (longs != null) {
+            long value = longs[Objects.checkIndex(index, size)];
+            if ((int) value != value) {
+                throw new JsonParseException("Value is not an int: " + value);
+            }
+            return (int) value;
+        }
+        return NumberUtils.toInt(get(index));
+    }
+
+    /**
+     * 读取double类型的元素
+     *
+     * @param index
+     * @return
+     */
+    public double getDouble(int index) {
+        if (doubles != null) {
+            return doubles[Objects.checkIndex(index, size)];
+        } else if (longs != null) {
+            return longs[Objects.checkIndex(index, size)];
+        }
+        return NumberUtils.toDouble(get(index));
+    }
+
+    public boolean getBoolean(int index) {
+
+        Object obj = get(index);
+
+        if (!(obj instanceof Boolean)) {
+            throw new JsonParseException("Type of value is not Boolean");
+        }
+
+        return (Boolean) obj;
+    }
+
+    public String getString(int index) {
+
+        Object obj = get(index);
+
+        if (obj != null && !(obj instanceof String)) {
+            throw new JsonParseException("Type of value is not String");
+        }
+
+        return (String) obj;
+    }
+
+    /**
+     * 复制为double数组，元素必须全部是数字
+     *
+     * @return
+     */
+    public double[] toDoubleArray() {
+
+        if (doubles != null) {
+            return Arrays.copyOf(doubles, size);
+        }
+
+        int length = size();
+        double[] result = new double[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = getDouble(i);
+        }
+        return result;
+    }
+
+    /**
+     * 复制为long数组，元素必须全部是long范围内的整数
+     *
+     * @return
+     */
+    public long[] toLongArray() {
+
+        if (longs != null) {
+            return Arrays.copyOf(longs, size);
+        }
+
+        int length = size();
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = getLong(i);
+        }
+        return result;
+    }
+
+    /**
+     * 以DoubleStream的形式读取，基本类型存储时不复制、不装箱
+     *
+     * @return
+     */
+    public DoubleStream doubleStream() {
+        if (doubles != null) {
+            return Arrays.stream(doubles, 0, size);
+        } else if (longs != null) {
+            return Arrays.stream(longs, 0, size).asDoubleStream();
+        }
+        return DoubleStream.of(toDoubleArray());
+    }
+
+    /**
+     * 以LongStream的形式读取，基本类型存储时不复制、不装箱
+     *
+     * @return
+     */
+    public LongStream longStream() {
+        if (longs != null) {
+            return Arrays.stream(longs, 0, size);
+        }
+        return LongStream.of(toLongArray());
+    }
+
+    /**
+     * 整数存储的原始数组，不是整数存储时返回null，有效长度为 {@link #size()}
+     */
+    long[] longValues() {
+        return longs;
+    }
+
+    /**
+     * 浮点数存储的原始数组，不是浮点数存储时返回null，有效长度为 {@link #size()}
+     */
+    double[] doubleValues() {
+        return doubles;
+    }
+
     @Override
     public Iterator<Object> iterator() {
-        return list.iterator();
+
+        if (list != null) {
+            return list.iterator();
+        }
+
+        return new Iterator<>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Object next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return primitiveAt(index++);
+            }
+        };
+    }
+
+    /**
+     * 序列化为json字符串
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return Json.toJson(this);
     }
 }
@@ -0,0 +1,111 @@
+package com.study.json;
+
+import com.study.json.bind.ObjectBinder;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 顶层数组元素迭代器，每次只解析一个元素，内存占用与单个元素的大小有关而与数组长度无关
+ **/
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonReader reader;
+
+    private final Class<T> type;
+
+    private final ObjectBinder binder;
+
+    /**
+     * 遍历读取器当前位置的数组，尚未读取任何Token时先前进到第一个Token
+     *
+     * @param reader
+     * @param type   元素类型，Object或JsonObject时保留树结构，其它类型直接绑定
+     */
+    public JsonArrayIterator(JsonReader reader, Class<T> type) {
+
+        this.reader = reader;
+        this.type = type;
+        this.binder = new ObjectBinder();
+
+        if (reader.currentToken() == null) {
+            reader.nextToken();
+        }
+
+        if (reader.currentToken() != TokenType.BEGIN_ARRAY) {
+            throw new JsonParseException("Not a JSON Array");
+        }
+
+        reader.nextToken();
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        TokenType token = reader.currentToken();
+        if (token == TokenType.END_DOCUMENT) {
+            throw new JsonParseException("Unexpected end of JSON inside array");
+        }
+
+        return token != TokenType.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T value;
+        try {
+            value = binder.read(reader, type);
+        } catch (ReflectiveOperationException e) {
+            throw new JsonParseException("Failed to bind array element to " + type.getName(), e);
+        }
+
+        // 元素之间应该是','，最后一个元素之后是']'
+        if (reader.currentToken() == TokenType.SEP_COMMA) {
+            if (reader.nextToken() == TokenType.END_ARRAY) {
+                throw new JsonParseException("Unexpected ']' after ','");
+            }
+        } else if (reader.currentToken() != TokenType.END_ARRAY) {
+            throw new JsonParseException("Expected SEP_COMMA but found " + reader.currentToken());
+        }
+
+        return value;
+    }
+
+    /**
+     * 转换为顺序流，流关闭时关闭底层读取器
+     *
+     * @return
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
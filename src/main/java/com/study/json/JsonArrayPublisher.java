@@ -0,0 +1,175 @@
+package com.study.json;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 以 {@link Flow.Publisher} 的形式逐个发布顶层数组的元素。
+ * 元素只在订阅者请求时才解析，没有需求时停止读取，内存占用与订阅者的请求窗口有关而与数组长度无关。
+ * 解析和回调在指定的 {@link Executor} 上执行，同一时刻只有一个线程处理；只能订阅一次，结束或取消时关闭读取器
+ **/
+public class JsonArrayPublisher<T> implements Flow.Publisher<T> {
+
+    private final JsonReader reader;
+
+    private final Class<T> type;
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param reader   尚未读取任何Token的读取器
+     * @param type     元素类型，Object或JsonObject时保留树结构，其它类型直接绑定
+     * @param executor 执行解析和回调，读取器可能阻塞时不要使用事件循环线程
+     */
+    public JsonArrayPublisher(JsonReader reader, Class<T> type, Executor executor) {
+        this.reader = reader;
+        this.type = type;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("JsonArrayPublisher can only be subscribed once"));
+            return;
+        }
+
+        ArraySubscription subscription = new ArraySubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class ArraySubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        /**
+         * 尚未满足的请求数，达到Long.MAX_VALUE时视为无限
+         */
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * 待处理的信号数，不为0时已有线程在处理
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        /**
+         * 以下字段只在处理线程中访问
+         */
+        private JsonArrayIterator<T> iterator;
+
+        private boolean done;
+
+        ArraySubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    drain();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * 按需求解析并发送元素，需求用完时返回，等待下一次请求
+         */
+        private void drain() {
+
+            try {
+                if (iterator == null && !cancelled && invalidRequest == null) {
+                    iterator = new JsonArrayIterator<>(reader, type);
+                }
+
+                long requested = demand.get();
+                long emitted = 0;
+                while (true) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    if (invalidRequest != null) {
+                        finish();
+                        subscriber.onError(invalidRequest);
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (emitted == requested) {
+                        requested = requested == Long.MAX_VALUE ? requested : demand.addAndGet(-emitted);
+                        emitted = 0;
+                        if (requested == 0) {
+                            return;
+                        }
+                    }
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+            } catch (RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // 元素已经全部处理，关闭失败不影响结果
+            }
+        }
+
+    }
+
+}
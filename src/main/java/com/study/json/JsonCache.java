@@ -0,0 +1,228 @@
+package com.study.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 解析结果的缓存，适合反复解析相同内容的配置和参考数据。
+ * 以输入的哈希值和长度定位，命中时再比较完整内容，不会因哈希冲突返回错误的结果；
+ * 按估算的内存占用限制容量，每个条目计入输入字符串和解析出的整棵树，超出时淘汰最久未使用的条目。
+ * 缓存的对象和数组已冻结，可以在线程之间共享，调用方不能修改。
+ * 线程安全，解析在锁外进行，同一内容同时未命中时可能被解析多次
+ **/
+public final class JsonCache {
+
+    /**
+     * 对象头加引用的大致字节数，用于估算，不追求与具体JVM完全一致
+     */
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final int REFERENCE_SIZE = 8;
+
+    /**
+     * 缓存条目自身的开销：Key、LinkedHashMap的节点
+     */
+    private static final int ENTRY_OVERHEAD = 24 + 48;
+
+    private final long maxWeight;
+
+    /**
+     * 按访问顺序排列，最久未使用的在最前面
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * @param maxWeight 缓存估算占用的字节数上限，包括输入字符串和解析结果
+     */
+    public JsonCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 解析json字符串，内容相同时返回同一个冻结的结果
+     *
+     * @param jsonString
+     * @return 冻结的JsonObject、JsonArray或标量
+     */
+    public Object parse(String jsonString) {
+
+        Key key = new Key(jsonString);
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.value;
+            }
+            misses++;
+        }
+
+        Object value = JsonObject.freezeValue(JsonParserContext.local().parse(jsonString));
+
+        // 超过上限的条目不缓存
+        long entryWeight = ENTRY_OVERHEAD + weigh(jsonString) + weigh(value);
+        if (entryWeight > maxWeight) {
+            return value;
+        }
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                // 其它线程已经写入，返回同一个实例
+                return cached.value;
+            }
+            entries.put(key, new Entry(value, entryWeight));
+            weight += entryWeight;
+            evict();
+        }
+
+        return value;
+    }
+
+    /**
+     * 淘汰最久未使用的条目，直到总占用不超过上限
+     */
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * 估算一个值占用的字节数，对象和数组包括其中所有的值。
+     * 用显式的栈遍历，嵌套深度不受调用栈限制
+     */
+    private static long weigh(Object root) {
+
+        long total = 0;
+        ArrayDeque<Object> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+
+        while (!stack.isEmpty()) {
+            Object value = stack.pop();
+            if (value instanceof JsonObject object) {
+                // JsonObject、CompactMap和两个数组，每个属性一个key引用和一个value引用
+                Set<Map.Entry<String, Object>> properties = object.entries();
+                total += 4 * OBJECT_OVERHEAD + properties.size() * 2L * REFERENCE_SIZE;
+                for (Map.Entry<String, Object> entry : properties) {
+                    total += weigh(entry.getKey());
+                    if (entry.getValue() != null) {
+                        stack.push(entry.getValue());
+                    }
+                }
+            } else if (value instanceof JsonArray array) {
+                // 基本类型数组按装箱后计算，估算偏大
+                total += 3 * OBJECT_OVERHEAD + array.size() * (long) REFERENCE_SIZE;
+                for (Object element : array) {
+                    if (element != null) {
+                        stack.push(element);
+                    }
+                }
+            } else if (value instanceof String str) {
+                total += weigh(str);
+            } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+                total += 4 * OBJECT_OVERHEAD;
+            } else if (!(value instanceof Boolean)) {
+                // 装箱的数字，Boolean是共享的常量
+                total += OBJECT_OVERHEAD;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 字符串和内部数组，按每个字符两个字节估算
+     */
+    private static long weigh(String str) {
+        return 2 * OBJECT_OVERHEAD + 2L * str.length();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * 当前的统计信息
+     *
+     * @return
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), weight);
+    }
+
+    /**
+     * 缓存的统计信息
+     *
+     * @param hits      命中次数
+     * @param misses    未命中次数
+     * @param evictions 淘汰的条目数
+     * @param size      当前条目数
+     * @param weight    当前缓存估算占用的字节数
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weight) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+    }
+
+    /**
+     * 缓存的解析结果和它估算的占用
+     */
+    private record Entry(Object value, long weight) {
+    }
+
+    /**
+     * 以哈希值和长度定位，相等时比较完整内容
+     */
+    private static final class Key {
+
+        private final String source;
+
+        private final int hash;
+
+        private Key(String source) {
+            this.source = source;
+            // String缓存了自身的哈希值，同一个实例重复查询时不再计算
+            this.hash = source.hashCode() * 31 + source.length();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && hash == other.hash
+                    && source.length() == other.source.length() && source.equals(other.source);
+        }
+
+    }
+
+}
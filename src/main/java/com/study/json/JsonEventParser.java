@@ -0,0 +1,157 @@
+package com.study.json;
+
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+
+import java.util.Arrays;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 事件式解析器，直接从 {@link JsonTokenizer} 读取Token并调用 {@link JsonHandler}，完整校验语法但不构建任何树结构。
+ * 嵌套使用位栈记录每一层是对象还是数组，不依赖调用栈，任意深度和大小的文档占用的内存都是固定的
+ **/
+public class JsonEventParser {
+
+    private final JsonTokenizer tokenizer;
+
+    /**
+     * 每一层是否为对象，按位存储
+     */
+    private long[] objects = new long[1];
+
+    private int depth;
+
+    public JsonEventParser(JsonTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * 解析一个完整的文档，值之后只能是文档结束
+     *
+     * @param handler
+     */
+    public void parse(JsonHandler handler) {
+
+        depth = 0;
+        TokenType token = tokenizer.advance();
+        if (token == TokenType.END_DOCUMENT) {
+            throw new JsonParseException("Empty json");
+        }
+
+        while (true) {
+
+            // token为一个值的第一个Token
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    handler.startObject();
+                    token = tokenizer.advance();
+                    if (token != TokenType.END_OBJECT) {
+                        push(true);
+                        token = key(token, handler);
+                        continue;
+                    }
+                    handler.endObject();
+                }
+                case BEGIN_ARRAY -> {
+                    handler.startArray();
+                    token = tokenizer.advance();
+                    if (token != TokenType.END_ARRAY) {
+                        push(false);
+                        continue;
+                    }
+                    handler.endArray();
+                }
+                case STRING -> handler.stringValue(tokenizer.valueChars());
+                case NUMBER -> number(handler);
+                case BOOLEAN -> handler.booleanValue(tokenizer.booleanValue());
+                case NULL -> handler.nullValue();
+                default -> throw new JsonParseException("Unexpected token: " + token);
+            }
+
+            // 一个值结束，依次关闭已经结束的对象和数组，直到遇到下一个值或文档结束
+            token = tokenizer.advance();
+            while (true) {
+                if (depth == 0) {
+                    if (token != TokenType.END_DOCUMENT) {
+                        throw new JsonParseException("Extra data after end of JSON: " + token);
+                    }
+                    return;
+                }
+
+                boolean object = isObject();
+                if (token == TokenType.SEP_COMMA) {
+                    token = tokenizer.advance();
+                    if (object) {
+                        token = key(token, handler);
+                    }
+                    break;
+                }
+
+                if (token != (object ? TokenType.END_OBJECT : TokenType.END_ARRAY)) {
+                    throw new JsonParseException("Expected SEP_COMMA but found " + token);
+                }
+                depth--;
+                if (object) {
+                    handler.endObject();
+                } else {
+                    handler.endArray();
+                }
+                token = tokenizer.advance();
+            }
+        }
+    }
+
+    /**
+     * 读取key和':'
+     *
+     * @return 值的第一个Token
+     */
+    private TokenType key(TokenType token, JsonHandler handler) {
+
+        if (token != TokenType.STRING) {
+            throw new JsonParseException("Expected STRING key but found " + token);
+        }
+        handler.key(tokenizer.valueChars());
+
+        if (tokenizer.advance() != TokenType.SEP_COLON) {
+            throw new JsonParseException("Expected SEP_COLON but found " + tokenizer.type());
+        }
+        return tokenizer.advance();
+    }
+
+    private void number(JsonHandler handler) {
+        if (tokenizer.isLongNumber()) {
+            handler.numberValue(tokenizer.longValue());
+        } else if (tokenizer.isDecimalNumber()) {
+            double value = tokenizer.doubleValue();
+            if (Double.isFinite(value)) {
+                handler.numberValue(value);
+            } else {
+                handler.numberValue(tokenizer.numberValue());
+            }
+        } else {
+            // 超出long范围的整数
+            handler.numberValue(tokenizer.numberValue());
+        }
+    }
+
+    private void push(boolean object) {
+        int word = depth >>> 6;
+        if (word == objects.length) {
+            objects = Arrays.copyOf(objects, word * 2);
+        }
+        if (object) {
+            objects[word] |= 1L << depth;
+        } else {
+            objects[word] &= ~(1L << depth);
+        }
+        depth++;
+    }
+
+    private boolean isObject() {
+        int top = depth - 1;
+        return (objects[top >>> 6] & (1L << top)) != 0;
+    }
+
+}
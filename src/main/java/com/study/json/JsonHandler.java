@@ -0,0 +1,69 @@
+package com.study.json;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 事件式解析的回调，解析过程中按文档顺序调用，不创建JsonObject、JsonArray和Token。
+ * 字符串和key以内部复用的缓冲区传入，只在回调期间有效，需要保留时自行调用toString()；
+ * 数字以基本类型传入，超出long和double范围的数字才创建对象。所有方法默认不做任何处理，只需实现关心的事件
+ **/
+public interface JsonHandler {
+
+    default void startObject() {
+    }
+
+    default void endObject() {
+    }
+
+    default void startArray() {
+    }
+
+    default void endArray() {
+    }
+
+    /**
+     * 对象的key，随后是它的值
+     *
+     * @param key 回调返回后失效
+     */
+    default void key(CharSequence key) {
+    }
+
+    /**
+     * @param value 回调返回后失效
+     */
+    default void stringValue(CharSequence value) {
+    }
+
+    /**
+     * long范围内的整数
+     *
+     * @param value
+     */
+    default void numberValue(long value) {
+    }
+
+    /**
+     * 小数或指数形式的数字
+     *
+     * @param value
+     */
+    default void numberValue(double value) {
+    }
+
+    /**
+     * 超出long范围的整数或超出double范围的小数，默认按double处理
+     *
+     * @param value BigInteger或BigDecimal
+     */
+    default void numberValue(Number value) {
+        numberValue(value.doubleValue());
+    }
+
+    default void booleanValue(boolean value) {
+    }
+
+    default void nullValue() {
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.study.json;
+
+import com.study.json.bind.ObjectBinder;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 按行分隔的json（NDJSON / JSON Lines）读写。
+ * 顺序读取时所有记录共用同一个读取器、缓冲区和词法解析器；并行读取时按换行符把文件切分成若干块，
+ * 在ForkJoinPool中分别解析
+ **/
+public class JsonLines {
+
+    /**
+     * 并行解析时单个分块的最小字节数
+     */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * 查找换行符时每次读取的字节数
+     */
+    private static final int SCAN_SIZE = 1 << 16;
+
+    /**
+     * 逐条读取输入流中的记录，流关闭时关闭输入流
+     *
+     * @param inputStream UTF-8编码的输入
+     * @param type        记录类型，Object或JsonObject时保留树结构
+     * @return
+     */
+    public static <T> Stream<T> stream(InputStream inputStream, Class<T> type) {
+        return new RecordIterator<>(new JsonReader(new Utf8Reader(inputStream)), type).stream();
+    }
+
+    /**
+     * 逐条读取文件中的记录，使用完毕后需要关闭流以释放文件
+     *
+     * @param path
+     * @param type 记录类型，Object或JsonObject时保留树结构
+     * @return
+     * @throws IOException
+     */
+    public static <T> Stream<T> stream(Path path, Class<T> type) throws IOException {
+        return new RecordIterator<>(new JsonReader(new MappedFileReader(path)), type).stream();
+    }
+
+    /**
+     * 并行解析文件中的记录，结果按照文件中的顺序返回
+     *
+     * @param path
+     * @param type
+     * @param pool
+     * @return
+     * @throws IOException
+     */
+    public static <T> List<T> parseParallel(Path path, Class<T> type, ForkJoinPool pool) throws IOException {
+
+        List<ForkJoinTask<List<T>>> tasks = new ArrayList<>();
+        for (long[] chunk : split(path, pool.getParallelism())) {
+            tasks.add(pool.submit(() -> {
+                List<T> records = new ArrayList<>();
+                readChunk(path, chunk, type, records::add);
+                return records;
+            }));
+        }
+
+        List<T> result = new ArrayList<>();
+        for (ForkJoinTask<List<T>> task : tasks) {
+            result.addAll(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * 并行解析文件中的记录，每解析出一条记录就交给消费者处理，不保证顺序。
+     * 消费者会被多个线程同时调用，需要自行保证线程安全
+     *
+     * @param path
+     * @param type
+     * @param consumer
+     * @param pool
+     * @throws IOException
+     */
+    public static <T> void forEachParallel(Path path, Class<T> type, Consumer<? super T> consumer, ForkJoinPool pool) throws IOException {
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (long[] chunk : split(path, pool.getParallelism())) {
+            tasks.add(pool.submit(() -> {
+                readChunk(path, chunk, type, consumer);
+                return null;
+            }));
+        }
+
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    /**
+     * 每条记录写为一行
+     *
+     * @param records
+     * @param writer
+     * @throws IOException
+     */
+    public static void write(Iterable<?> records, Writer writer) throws IOException {
+        write(records, new JsonWriter(writer));
+    }
+
+    /**
+     * 每条记录写为一行，使用UTF-8编码
+     *
+     * @param records
+     * @param outputStream
+     * @throws IOException
+     */
+    public static void write(Iterable<?> records, OutputStream outputStream) throws IOException {
+        write(records, new JsonWriter(outputStream));
+    }
+
+    private static void write(Iterable<?> records, JsonWriter writer) throws IOException {
+        for (Object record : records) {
+            writer.writeValue(record);
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    private static <T> void readChunk(Path path, long[] chunk, Class<T> type, Consumer<? super T> consumer) throws IOException {
+        MappedFileReader reader = new MappedFileReader(path, chunk[0], chunk[1] - chunk[0], MappedFileReader.DEFAULT_WINDOW_SIZE);
+        try (RecordIterator<T> iterator = new RecordIterator<>(new JsonReader(reader), type)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 按换行符切分文件，每个分块都以完整的行结束
+     *
+     * @return 分块的起止位置
+     */
+    private static List<long[]> split(Path path, int parallelism) throws IOException {
+
+        List<long[]> chunks = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            // 分块数多于线程数，让先完成的线程可以继续处理剩余的分块
+            long chunkSize = Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4L));
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+
+            long start = 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : lineEnd(channel, start + chunkSize, size, buffer);
+                chunks.add(new long[]{start, end});
+                start = end;
+            }
+        }
+
+        return chunks;
+    }
+
+    /**
+     * 从指定位置开始查找下一个换行符
+     *
+     * @return 换行符之后的位置，找不到时返回文件大小
+     */
+    private static long lineEnd(FileChannel channel, long from, long size, ByteBuffer buffer) throws IOException {
+
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * 记录迭代器，所有记录共用同一个读取器
+     */
+    private static class RecordIterator<T> implements Iterator<T>, Closeable {
+
+        private final JsonReader reader;
+
+        private final Class<T> type;
+
+        private final ObjectBinder binder = new ObjectBinder();
+
+        RecordIterator(JsonReader reader, Class<T> type) {
+            this.reader = reader;
+            this.type = type;
+            reader.nextToken();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return reader.currentToken() != TokenType.END_DOCUMENT;
+        }
+
+        @Override
+        public T next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                // 读取完成后读取器停在下一条记录的第一个Token上
+                return binder.read(reader, type);
+            } catch (ReflectiveOperationException e) {
+                throw new JsonParseException("Failed to bind record to " + type.getName(), e);
+            }
+        }
+
+        Stream<T> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                    .onClose(() -> {
+                        try {
+                            close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+}
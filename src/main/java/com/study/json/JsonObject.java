@@ -1,18 +1,16 @@
 package com.study.json;
 
-import cn.hutool.core.date.DateTime;
-import cn.hutool.core.date.DateUtil;
+import com.study.json.bind.ClassBinding;
+import com.study.json.bind.FieldBinding;
+import com.study.json.enums.BindingBackend;
 import com.study.json.exception.JsonParseException;
-import com.study.json.util.DateUtils;
+import com.study.json.util.NumberUtils;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.time.LocalDateTime;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author 王文涛
@@ -21,31 +19,96 @@ import java.util.Map;
  **/
 public class JsonObject {
 
-    private Map<String, Object> map = null;
+    private final CompactMap map;
 
     public JsonObject() {
-        this.map = new HashMap<>();
+        this.map = new CompactMap();
     }
 
+    /**
+     * 写入键值对，对象已冻结时抛出 {@link UnsupportedOperationException}
+     *
+     * @param key
+     * @param value
+     */
     public void put(String key, Object value) {
         this.map.put(key, value);
     }
 
+    /**
+     * 冻结对象及其中所有的对象和数组，之后不能再修改，存储收缩到实际大小。
+     * 冻结完成后的对象可以直接发布给其它线程读取，不需要复制或加锁
+     *
+     * @return 当前对象
+     */
+    public JsonObject freeze() {
+        freezeTree();
+        VarHandle.releaseFence();
+        return this;
+    }
+
+    void freezeTree() {
+        if (!map.isFrozen()) {
+            for (Map.Entry<String, Object> entry : entries()) {
+                freezeValue(entry.getValue());
+            }
+            map.freeze();
+        }
+    }
+
+    public boolean isFrozen() {
+        return map.isFrozen();
+    }
+
+    /**
+     * 冻结任意的值，标量本身不可变，不做处理
+     *
+     * @param value
+     * @return 传入的值
+     */
+    static Object freezeValue(Object value) {
+        if (value instanceof JsonObject object) {
+            object.freezeTree();
+        } else if (value instanceof JsonArray array) {
+            array.freezeTree();
+        }
+        return value;
+    }
+
     public Object get(String key) {
         return this.map.get(key);
     }
 
+    /**
+     * 是否包含指定的key
+     *
+     * @param key
+     * @return
+     */
+    public boolean containsKey(String key) {
+        return this.map.containsKey(key);
+    }
+
     public List<Map.Entry<String, Object>> getAllKeyValue() {
-        return this.map.entrySet().stream().toList();
+        return entries().stream().toList();
+    }
+
+    /**
+     * 遍历所有键值对，不复制
+     *
+     * @return
+     */
+    Set<Map.Entry<String, Object>> entries() {
+        return this.map.entrySet();
     }
 
     public JsonObject getJsonObject(String key) {
 
-        if (!map.containsKey(key)) {
+        if (!containsKey(key)) {
             throw new IllegalArgumentException("Invalid key");
         }
 
-        Object obj = map.get(key);
+        Object obj = get(key);
 
         if (!(obj instanceof JsonObject)) {
             throw new JsonParseException("Type of value is not JsonObject");
@@ -56,11 +119,11 @@ public class JsonObject {
 
     public JsonArray getJsonArray(String key) {
 
-        if (!map.containsKey(key)) {
+        if (!containsKey(key)) {
             throw new IllegalArgumentException("Invalid key");
         }
 
-        Object obj = map.get(key);
+        Object obj = get(key);
 
         if (!(obj instanceof JsonArray)) {
             throw new JsonParseException("Type of value is not JsonArray");
@@ -70,51 +133,111 @@ public class JsonObject {
     }
 
     /**
-     * 将json对象转换为指定的类
+     * 读取long类型的值，只接受long范围内的整数
      *
-     * @param clazz
+     * @param key
      * @return
      */
-    public <T> T convertClass(Class<T> clazz) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+    public long getLong(String key) {
+        return NumberUtils.toLong(getExisting(key));
+    }
+
+    /**
+     * 读取int类型的值，只接受int范围内的整数
+     *
+     * @param key
+     * @return
+     */
+    public int getInt(String key) {
+        return NumberUtils.toInt(getExisting(key));
+    }
 
-        Constructor<T> constructor = clazz.getConstructor(null);
-        T obj = constructor.newInstance();
+    /**
+     * 读取double类型的值
+     *
+     * @param key
+     * @return
+     */
+    public double getDouble(String key) {
+        return NumberUtils.toDouble(getExisting(key));
+    }
 
-        // 遍历json对象中的所有key
-        for (String key : map.keySet()) {
+    public boolean getBoolean(String key) {
 
-            Field field = clazz.getDeclaredField(key);
+        Object obj = getExisting(key);
 
-            field.setAccessible(true);
+        if (!(obj instanceof Boolean)) {
+            throw new JsonParseException("Type of value is not Boolean");
+        }
 
-            // 如何属性的类型为日期类型
-            Class<?> dateType = DateUtils.getDateType(field.getType());
-            if (dateType != null) {
+        return (Boolean) obj;
+    }
 
-                DateTime parse = DateUtil.parse(String.valueOf(map.get(key)));
+    public String getString(String key) {
 
-                if (dateType.equals(LocalDateTime.class)) {
-                    field.set(obj, parse.toLocalDateTime());
-                } else if (dateType.equals(Date.class)) {
-                    field.set(obj, parse.toJdkDate());
-                } else if (dateType.equals(java.sql.Date.class)) {
-                    field.set(obj, parse.toSqlDate());
-                } else if (dateType.equals(java.sql.Timestamp.class)) {
-                    field.set(obj, parse.toTimestamp());
-                }
+        Object obj = getExisting(key);
 
+        if (obj != null && !(obj instanceof String)) {
+            throw new JsonParseException("Type of value is not String");
+        }
 
-            } else {
-                field.set(obj, map.get(key));
+        return (String) obj;
+    }
+
+    private Object getExisting(String key) {
+
+        if (!containsKey(key)) {
+            throw new IllegalArgumentException("Invalid key");
+        }
+
+        return get(key);
+    }
+
+    /**
+     * 将json对象转换为指定的类
+     *
+     * @param clazz
+     * @return
+     */
+    public <T> T convertClass(Class<T> clazz) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+        return convertClass(clazz, BindingBackend.REFLECTION);
+    }
+
+    /**
+     * 使用指定的属性访问方式将json对象转换为指定的类
+     *
+     * @param clazz
+     * @param backend
+     * @return
+     */
+    public <T> T convertClass(Class<T> clazz, BindingBackend backend) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        ClassBinding<T> binding = ClassBinding.of(clazz, backend);
+        T obj = binding.newInstance();
+
+        // 遍历json对象中的所有key
+        for (Map.Entry<String, Object> entry : entries()) {
+
+            FieldBinding field = binding.field(entry.getKey());
+            if (field == null) {
+                throw new NoSuchFieldException(entry.getKey());
             }
+
+            // 日期类型的转换由绑定信息处理
+            field.set(obj, entry.getValue());
         }
 
         return obj;
     }
 
+    /**
+     * 序列化为json字符串
+     *
+     * @return
+     */
     @Override
     public String toString() {
-        return map.toString();
+        return Json.toJson(this);
     }
 
 }
@@ -5,7 +5,6 @@ import com.study.json.exception.JsonParseException;
 import com.study.json.pojo.Token;
 
 import java.util.List;
-import java.util.ListIterator;
 
 /**
  * @author 王文涛
@@ -14,42 +13,47 @@ import java.util.ListIterator;
 public class JsonParser {
 
     /**
-     * 当前token的迭代器
+     * Token来源，解析时逐个拉取
      */
-    private final ListIterator<Token> iterator;
-
-    /**
-     * 当前要进行解析的Token
-     */
-    private Token currentToken;
+    private final JsonReader reader;
 
     public JsonParser(List<Token> tokens) {
-        this.iterator = tokens.listIterator();
-        if (iterator.hasNext()) {
-            this.currentToken = iterator.next();
-        }
+        this(new JsonReader(tokens.iterator()));
+    }
+
+    public JsonParser(JsonReader reader) {
+        this.reader = reader;
     }
 
     public Object parse() {
 
+        if (reader.currentToken() == null) {
+            reader.nextToken();
+        }
+
         Object result = parseValue();
 
-        if (currentToken.getType() != TokenType.END_DOCUMENT) {
-            throw new JsonParseException("Extra data after end of JSON: " + currentToken);
+        if (reader.currentToken() != TokenType.END_DOCUMENT) {
+            throw new JsonParseException("Extra data after end of JSON: " + currentToken());
         }
 
         return result;
     }
 
-    private Object parseValue() {
-        return switch (currentToken.getType()) {
+    /**
+     * 从当前Token开始解析一个完整的值，解析完成后读取器停在该值之后的Token上
+     *
+     * @return
+     */
+    public Object parseValue() {
+        return switch (reader.currentToken()) {
             case BEGIN_OBJECT -> parseObject();
             case BEGIN_ARRAY -> parseArray();
             case STRING -> parseString();
             case NUMBER -> parseNumber();
             case BOOLEAN -> parseBoolean();
             case NULL -> parseNull();
-            default -> throw new JsonParseException("Unexpected token: " + currentToken);
+            default -> throw new JsonParseException("Unexpected token: " + currentToken());
         };
     }
 
@@ -59,10 +63,11 @@ public class JsonParser {
 
         consume(TokenType.BEGIN_OBJECT);
 
-        while (currentToken.getType() != TokenType.END_OBJECT) {
+        while (reader.currentToken() != TokenType.END_OBJECT) {
 
             // 解析key
-            String key = parseString();
+            String key = reader.currentKey();
+            consume(TokenType.STRING);
 
             // 解析:
             consume(TokenType.SEP_COLON);
@@ -72,8 +77,8 @@ public class JsonParser {
             object.put(key, value);
 
             // 还没有结束，下一个应该是','字符
-            if (currentToken.getType() != TokenType.END_OBJECT) {
-                consume(TokenType.SEP_COMMA);
+            if (reader.currentToken() != TokenType.END_OBJECT) {
+                consumeSeparator(TokenType.END_OBJECT);
             }
 
         }
@@ -88,11 +93,15 @@ public class JsonParser {
         JsonArray jsonArray = new JsonArray();
         consume(TokenType.BEGIN_ARRAY);
 
-        while (currentToken.getType() != TokenType.END_ARRAY) {
-            Object value = parseValue();
-            jsonArray.add(value);
-            if (currentToken.getType() != TokenType.END_ARRAY) {
-                consume(TokenType.SEP_COMMA);
+        while (reader.currentToken() != TokenType.END_ARRAY) {
+            if (reader.currentToken() == TokenType.NUMBER) {
+                // 数字直接写入数组，同一种数字组成的数组不创建包装对象
+                parseNumber(jsonArray);
+            } else {
+                jsonArray.add(parseValue());
+            }
+            if (reader.currentToken() != TokenType.END_ARRAY) {
+                consumeSeparator(TokenType.END_ARRAY);
             }
         }
 
@@ -102,7 +111,7 @@ public class JsonParser {
 
     private String parseString() {
 
-        String value = currentToken.getValue();
+        String value = reader.currentValue();
 
         consume(TokenType.STRING);
 
@@ -110,23 +119,31 @@ public class JsonParser {
     }
 
     private Number parseNumber() {
-        String value = currentToken.getValue();
+        Number value = reader.numberValue();
         consume(TokenType.NUMBER);
-        // 判断是否是浮点数，如果是，则返回double类型
-        if (value.contains(".") || value.contains("e") || value.contains("E")) {
-            return Double.parseDouble(value);
+        return value;
+    }
+
+    private void parseNumber(JsonArray jsonArray) {
+        if (reader.isLongValue()) {
+            jsonArray.addLong(reader.longValue());
+        } else if (!reader.isDecimalValue()) {
+            // 超出long范围的整数
+            jsonArray.add(reader.numberValue());
         } else {
-            // 尝试使用整形进行解析，不行则使用长整形进行解析
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                return Long.parseLong(value);
+            double value = reader.doubleValue();
+            if (Double.isFinite(value)) {
+                jsonArray.addDouble(value);
+            } else {
+                // 超出double范围，使用BigDecimal
+                jsonArray.add(reader.numberValue());
             }
         }
+        consume(TokenType.NUMBER);
     }
 
     private Boolean parseBoolean() {
-        Boolean value = Boolean.valueOf(currentToken.getValue());
+        Boolean value = Boolean.valueOf(reader.currentValue());
         consume(TokenType.BOOLEAN);
         return value;
     }
@@ -136,20 +153,31 @@ public class JsonParser {
         return null;
     }
 
+    /**
+     * 消费元素之间的','，','之后不能直接是结束括号
+     *
+     * @param end 所在对象或数组的结束Token
+     */
+    private void consumeSeparator(TokenType end) {
+        consume(TokenType.SEP_COMMA);
+        if (reader.currentToken() == end) {
+            throw new JsonParseException("Unexpected " + end + " after ','");
+        }
+    }
+
     private void consume(TokenType expectedType) {
 
         // 当前token的类型不是期望的类型，抛出异常
-        if (currentToken.getType() != expectedType) {
-            throw new JsonParseException("Expected " + expectedType + " but found " + currentToken);
+        if (reader.currentToken() != expectedType) {
+            throw new JsonParseException("Expected " + expectedType + " but found " + currentToken());
         }
 
-        // 指向下一个token
-        if (iterator.hasNext()) {
-            currentToken = iterator.next();
-        } else {
-            // 已经解析完Token了，放置结束标记
-            currentToken = new Token(TokenType.END_DOCUMENT, null);
-        }
+        // 指向下一个token，Token读取完毕后读取器会停在结束标记上
+        reader.nextToken();
+    }
+
+    private Token currentToken() {
+        return new Token(reader.currentToken(), reader.currentValue());
     }
 
 }
\ No newline at end of file
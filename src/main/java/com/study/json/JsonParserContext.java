@@ -0,0 +1,125 @@
+package com.study.json;
+
+import com.study.json.bind.ObjectBinder;
+import com.study.json.enums.BindingBackend;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 可复用的解析上下文，字符缓冲区、词法解析器的缓冲区和解析器在多次解析之间复用，每次解析前重置状态。
+ * 同一时间只能用于一次解析，不是线程安全的；{@link Json} 的解析方法通过 {@link #local()} 为每个线程复用一个实例。
+ * 大量虚拟线程各自只解析几次时，线程本地的实例得不到复用，此时可以自行创建实例并池化
+ **/
+public final class JsonParserContext {
+
+    private static final ThreadLocal<JsonParserContext> LOCAL = ThreadLocal.withInitial(JsonParserContext::new);
+
+    private final CharReader charReader = new CharReader(Reader.nullReader());
+
+    private final JsonReader reader = new JsonReader(charReader);
+
+    private final JsonParser parser = new JsonParser(reader);
+
+    private final JsonEventParser eventParser = new JsonEventParser(reader.tokenizer());
+
+    /**
+     * 是否正在解析
+     */
+    private boolean inUse;
+
+    /**
+     * 当前线程复用的实例，该实例正在使用时（例如解析过程中再次调用解析）返回一个新的实例
+     *
+     * @return
+     */
+    public static JsonParserContext local() {
+        JsonParserContext context = LOCAL.get();
+        return context.inUse ? new JsonParserContext() : context;
+    }
+
+    public Object parse(String jsonString) {
+        return parse(new StringReader(jsonString));
+    }
+
+    /**
+     * 解析字符输入流，不关闭输入流
+     *
+     * @param input
+     * @return
+     */
+    public Object parse(Reader input) {
+        JsonReader jsonReader = begin(input);
+        try {
+            return parser.parse();
+        } finally {
+            end(jsonReader);
+        }
+    }
+
+    /**
+     * 事件式解析字符输入流，不关闭输入流
+     *
+     * @param input
+     * @param handler
+     */
+    public void parse(Reader input, JsonHandler handler) {
+        JsonReader jsonReader = begin(input);
+        try {
+            eventParser.parse(handler);
+        } finally {
+            end(jsonReader);
+        }
+    }
+
+    /**
+     * 将字符输入流中的对象直接绑定到指定的类，不关闭输入流
+     *
+     * @param input
+     * @param clazz
+     * @param backend
+     * @return
+     */
+    public <T> T parseToClass(Reader input, Class<T> clazz, BindingBackend backend) throws NoSuchFieldException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
+
+        JsonReader jsonReader = begin(input);
+        try {
+            if (jsonReader.nextToken() != TokenType.BEGIN_OBJECT) {
+                throw new JsonParseException("Not a JSON Object");
+            }
+
+            T result = new ObjectBinder(backend).read(jsonReader, clazz);
+
+            if (jsonReader.currentToken() != TokenType.END_DOCUMENT) {
+                throw new JsonParseException("Extra data after end of JSON: " + jsonReader.currentToken());
+            }
+
+            return result;
+        } finally {
+            end(jsonReader);
+        }
+    }
+
+    private JsonReader begin(Reader input) {
+        if (inUse) {
+            throw new IllegalStateException("JsonParserContext is already in use");
+        }
+        inUse = true;
+        charReader.reset(input);
+        reader.reset();
+        return reader;
+    }
+
+    private void end(JsonReader jsonReader) {
+        // 不再引用调用方的输入
+        charReader.reset(Reader.nullReader());
+        jsonReader.reset();
+        inUse = false;
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.study.json;
+
+import com.study.json.bind.ObjectBinder;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description JSONPath表达式，在流式读取的同时求值，只物化匹配的值。
+ * 不可能匹配的子树通过 {@link JsonReader#skipValue()} 跳过，不生成Token、不创建对象也不处理字符串转义。
+ * 支持的语法：{@code $}、{@code .name}、{@code ['name']}、{@code [n]}、{@code [*]}、{@code .*} 以及递归下降 {@code ..name}。
+ * 匹配的值不会再在其内部继续查找。编译后的表达式不可变，可以在多个线程间共享
+ **/
+public class JsonPath {
+
+    /**
+     * 路径段
+     *
+     * @param name       key，仅按key匹配时存在
+     * @param index      数组下标，不按下标匹配时为-1
+     * @param descendant 是否为递归下降
+     */
+    private record Segment(String name, int index, boolean descendant) {
+
+        boolean matchesKey(CharSequence key) {
+            return index < 0 && (name == null || name.contentEquals(key));
+        }
+
+        boolean matchesIndex(int i) {
+            return name == null && (index < 0 || index == i);
+        }
+    }
+
+    /**
+     * 状态集合使用long的位表示，最后一位表示完全匹配
+     */
+    private static final int MAX_SEGMENTS = 63;
+
+    private final String expression;
+
+    private final Segment[] segments;
+
+    private JsonPath(String expression, Segment[] segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * 编译JSONPath表达式
+     *
+     * @param expression
+     * @return
+     */
+    public static JsonPath compile(String expression) {
+
+        if (expression == null || !expression.startsWith("$")) {
+            throw new IllegalArgumentException("Invalid JSON path, must start with $: " + expression);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        int pos = 1;
+        int length = expression.length();
+
+        while (pos < length) {
+
+            char ch = expression.charAt(pos);
+            boolean descendant = false;
+
+            if (ch == '.') {
+                pos++;
+                if (pos < length && expression.charAt(pos) == '.') {
+                    descendant = true;
+                    pos++;
+                }
+                if (pos >= length) {
+                    throw invalid(expression);
+                }
+                if (expression.charAt(pos) != '[') {
+                    // .name 或 .*
+                    int end = pos;
+                    while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                        end++;
+                    }
+                    if (end == pos) {
+                        throw invalid(expression);
+                    }
+                    String name = expression.substring(pos, end);
+                    segments.add(new Segment("*".equals(name) ? null : name, -1, descendant));
+                    pos = end;
+                    continue;
+                }
+            } else if (ch != '[') {
+                throw invalid(expression);
+            }
+
+            // [n]、[*] 或 ['name']
+            int close = expression.indexOf(']', pos);
+            if (close < 0) {
+                throw invalid(expression);
+            }
+            String content = expression.substring(pos + 1, close).trim();
+            segments.add(bracketSegment(expression, content, descendant));
+            pos = close + 1;
+        }
+
+        if (segments.size() > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("JSON path has too many segments: " + expression);
+        }
+
+        return new JsonPath(expression, segments.toArray(new Segment[0]));
+    }
+
+    private static Segment bracketSegment(String expression, String content, boolean descendant) {
+
+        if ("*".equals(content)) {
+            return new Segment(null, -1, descendant);
+        }
+
+        if (content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                && content.charAt(content.length() - 1) == content.charAt(0)) {
+            return new Segment(content.substring(1, content.length() - 1), -1, descendant);
+        }
+
+        try {
+            int index = Integer.parseInt(content);
+            if (index < 0) {
+                throw invalid(expression);
+            }
+            return new Segment(null, index, descendant);
+        } catch (NumberFormatException e) {
+            throw invalid(expression);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String expression) {
+        return new IllegalArgumentException("Invalid JSON path: " + expression);
+    }
+
+    /**
+     * 从读取器的下一个值开始求值，每匹配到一个值就交给消费者，读取器停在该值之后的Token上
+     *
+     * @param reader
+     * @param type     匹配值的类型，Object时保留树结构
+     * @param consumer
+     */
+    public <T> void select(JsonReader reader, Class<T> type, Consumer<? super T> consumer) {
+
+        ObjectBinder binder = new ObjectBinder();
+        if (reader.nextToken() == TokenType.END_DOCUMENT) {
+            throw new JsonParseException("Empty json");
+        }
+
+        try {
+            walk(reader, 1L, binder, type, consumer);
+        } catch (ReflectiveOperationException e) {
+            throw new JsonParseException("Failed to bind value to " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 读取匹配的全部值
+     *
+     * @param reader
+     * @param type
+     * @return
+     */
+    public <T> List<T> select(JsonReader reader, Class<T> type) {
+        List<T> result = new ArrayList<>();
+        select(reader, type, result::add);
+        return result;
+    }
+
+    /**
+     * 处理当前值，读取器从值的第一个Token开始，结束后停在值之后的Token上
+     *
+     * @param states 已匹配段数的集合
+     */
+    private <T> void walk(JsonReader reader, long states, ObjectBinder binder, Class<T> type, Consumer<? super T> consumer) throws ReflectiveOperationException {
+
+        if ((states & (1L << segments.length)) != 0) {
+            consumer.accept(binder.read(reader, type));
+            return;
+        }
+
+        TokenType token = reader.currentToken();
+
+        if (token == TokenType.BEGIN_OBJECT) {
+            walkObject(reader, states, binder, type, consumer);
+        } else if (token == TokenType.BEGIN_ARRAY) {
+            walkArray(reader, states, binder, type, consumer);
+        } else if (token == TokenType.END_DOCUMENT || token == TokenType.END_OBJECT || token == TokenType.END_ARRAY
+                || token == TokenType.SEP_COLON || token == TokenType.SEP_COMMA) {
+            throw new JsonParseException("Unexpected token: " + token);
+        } else {
+            // 标量不可能有更深的匹配
+            reader.nextToken();
+        }
+    }
+
+    private <T> void walkObject(JsonReader reader, long states, ObjectBinder binder, Class<T> type, Consumer<? super T> consumer) throws ReflectiveOperationException {
+
+        TokenType token = reader.nextToken();
+
+        while (token != TokenType.END_OBJECT) {
+
+            if (token != TokenType.STRING) {
+                throw new JsonParseException("Expected string key but found " + token);
+            }
+
+            long childStates = 0;
+            CharSequence key = reader.currentChars();
+            for (int s = 0; s < segments.length; s++) {
+                if ((states & (1L << s)) != 0) {
+                    childStates |= next(s, segments[s].matchesKey(key));
+                }
+            }
+
+            if (reader.nextToken() != TokenType.SEP_COLON) {
+                throw new JsonParseException("Expected ':' after key");
+            }
+
+            token = child(reader, childStates, binder, type, consumer);
+
+            if (token == null) {
+                throw new JsonParseException("Expected value after ':'");
+            } else if (token == TokenType.SEP_COMMA) {
+                token = reader.nextToken();
+                if (token == TokenType.END_OBJECT) {
+                    throw new JsonParseException("Unexpected '}' after ','");
+                }
+            } else if (token != TokenType.END_OBJECT) {
+                throw new JsonParseException("Expected ',' or '}' but found " + token);
+            }
+        }
+
+        reader.nextToken();
+    }
+
+    private <T> void walkArray(JsonReader reader, long states, ObjectBinder binder, Class<T> type, Consumer<? super T> consumer) throws ReflectiveOperationException {
+
+        for (int i = 0; ; i++) {
+
+            long childStates = 0;
+            for (int s = 0; s < segments.length; s++) {
+                if ((states & (1L << s)) != 0) {
+                    childStates |= next(s, segments[s].matchesIndex(i));
+                }
+            }
+
+            TokenType token = child(reader, childStates, binder, type, consumer);
+
+            if (token == null) {
+                // 空数组，逗号之后缺少元素时报错
+                if (i > 0) {
+                    throw new JsonParseException("Unexpected ']' after ','");
+                }
+                break;
+            }
+
+            if (token == TokenType.END_ARRAY) {
+                break;
+            } else if (token != TokenType.SEP_COMMA) {
+                throw new JsonParseException("Expected ',' or ']' but found " + token);
+            }
+        }
+
+        reader.nextToken();
+    }
+
+    /**
+     * 读取一个子节点，没有任何状态时直接跳过
+     *
+     * @return 子节点之后的Token，没有子节点（直接遇到外层的结束括号）时返回null
+     */
+    private <T> TokenType child(JsonReader reader, long childStates, ObjectBinder binder, Class<T> type, Consumer<? super T> consumer) throws ReflectiveOperationException {
+
+        int depth = reader.depth();
+        if (childStates == 0) {
+            reader.skipValue();
+        } else {
+            reader.nextToken();
+        }
+
+        if (reader.depth() < depth) {
+            return null;
+        }
+
+        if (childStates == 0) {
+            return reader.nextToken();
+        }
+
+        walk(reader, childStates, binder, type, consumer);
+        return reader.currentToken();
+    }
+
+    /**
+     * 子节点的状态：匹配时前进一段，递归下降段在任意深度保持
+     */
+    private long next(int state, boolean matched) {
+        long result = matched ? 1L << (state + 1) : 0;
+        if (segments[state].descendant()) {
+            result |= 1L << state;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+}
@@ -0,0 +1,326 @@
+package com.study.json;
+
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+import com.study.json.exception.ReadException;
+import com.study.json.pojo.Token;
+import com.study.json.util.NumberUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 拉取式Json读取器，每次从词法解析器中取出一个Token，内存占用只与嵌套深度有关。
+ * 读取器本身就是可复用的游标，不为每个Token创建对象，值在调用 {@link #currentValue()} 时才物化
+ **/
+public class JsonReader implements Closeable {
+
+    /**
+     * 字符流
+     */
+    private final CharReader charReader;
+
+    /**
+     * 词法解析器
+     */
+    private final JsonTokenizer tokenizer;
+
+    /**
+     * 预先生成的Token，兼容基于Token集合的解析方式
+     */
+    private final Iterator<Token> tokens;
+
+    /**
+     * 当前Token的类型
+     */
+    private TokenType current;
+
+    /**
+     * 基于Token集合读取时的当前Token
+     */
+    private Token currentToken;
+
+    /**
+     * 已物化的当前Token值
+     */
+    private String currentValue;
+
+    /**
+     * 当前嵌套深度
+     */
+    private int depth;
+
+    public JsonReader(String str) {
+        this(new StringReader(str));
+    }
+
+    public JsonReader(Reader reader) {
+        this(new CharReader(reader));
+    }
+
+    public JsonReader(CharReader charReader) {
+        this.charReader = charReader;
+        this.tokenizer = new JsonTokenizer(charReader);
+        this.tokens = null;
+    }
+
+    JsonReader(Iterator<Token> tokens) {
+        this.charReader = null;
+        this.tokenizer = null;
+        this.tokens = tokens;
+    }
+
+    /**
+     * 底层的词法解析器，基于Token集合读取时为null
+     */
+    JsonTokenizer tokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * 清除读取状态，用于复用读取器，字符流由调用方重置
+     */
+    void reset() {
+        current = null;
+        currentToken = null;
+        currentValue = null;
+        depth = 0;
+        if (tokenizer != null) {
+            tokenizer.reset();
+        }
+    }
+
+    /**
+     * 前进到下一个Token
+     *
+     * @return 下一个Token的类型
+     */
+    public TokenType nextToken() {
+
+        if (current == TokenType.END_DOCUMENT) {
+            return TokenType.END_DOCUMENT;
+        }
+
+        current = pull();
+        currentValue = null;
+
+        switch (current) {
+            case BEGIN_OBJECT, BEGIN_ARRAY -> depth++;
+            case END_OBJECT, END_ARRAY -> depth--;
+            default -> {
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * 当前Token的类型，尚未调用 {@link #nextToken()} 时返回null
+     *
+     * @return
+     */
+    public TokenType currentToken() {
+        return current;
+    }
+
+    /**
+     * 当前Token的值，首次调用时物化为字符串
+     *
+     * @return
+     */
+    public String currentValue() {
+        if (currentValue == null && current != null) {
+            currentValue = tokenizer != null ? tokenizer.value() : currentToken.getValue();
+        }
+        return currentValue;
+    }
+
+    /**
+     * 将当前字符串Token作为对象的key读取，相同内容的key共用一个实例
+     *
+     * @return
+     */
+    public String currentKey() {
+        if (current != TokenType.STRING) {
+            return currentValue();
+        }
+        if (currentValue == null) {
+            currentValue = tokenizer != null ? tokenizer.keyValue() : SymbolTable.SHARED.intern(currentToken.getValue());
+        }
+        return currentValue;
+    }
+
+    /**
+     * 当前字符串或数字Token的字符内容，不创建字符串，读取下一个Token后失效
+     *
+     * @return
+     */
+    public CharSequence currentChars() {
+        if (tokenizer != null && (current == TokenType.STRING || current == TokenType.NUMBER)) {
+            return tokenizer.valueChars();
+        }
+        return currentValue();
+    }
+
+    /**
+     * 当前布尔Token的值
+     *
+     * @return
+     */
+    public boolean booleanValue() {
+        if (current != TokenType.BOOLEAN) {
+            throw new JsonParseException("Current token is not BOOLEAN: " + current);
+        }
+        return tokenizer != null ? tokenizer.booleanValue() : Boolean.parseBoolean(currentToken.getValue());
+    }
+
+    /**
+     * 当前数字Token的值
+     *
+     * @return Integer、Long、BigInteger、Double或BigDecimal
+     */
+    public Number numberValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.numberValue() : NumberUtils.parse(currentToken.getValue());
+    }
+
+    /**
+     * 当前数字Token是否为long范围内的整数
+     *
+     * @return
+     */
+    public boolean isLongValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.isLongNumber() : NumberUtils.scan(currentToken.getValue()).isLong();
+    }
+
+    /**
+     * 当前数字Token是否为小数或指数形式
+     *
+     * @return
+     */
+    public boolean isDecimalValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.isDecimalNumber() : !NumberUtils.scan(currentToken.getValue()).isIntegral();
+    }
+
+    /**
+     * 当前数字Token的long值，不是long范围内的整数时抛出 {@link NumberFormatException}
+     *
+     * @return
+     */
+    public long longValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.longValue() : NumberUtils.scan(currentToken.getValue()).longValue(currentToken.getValue());
+    }
+
+    /**
+     * 当前数字Token的int值，不是int范围内的整数时抛出 {@link NumberFormatException}
+     *
+     * @return
+     */
+    public int intValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.intValue() : NumberUtils.scan(currentToken.getValue()).intValue(currentToken.getValue());
+    }
+
+    /**
+     * 当前数字Token的double值
+     *
+     * @return
+     */
+    public double doubleValue() {
+        expectNumber();
+        return tokenizer != null ? tokenizer.doubleValue() : NumberUtils.scan(currentToken.getValue()).doubleValue(currentToken.getValue());
+    }
+
+    private void expectNumber() {
+        if (current != TokenType.NUMBER) {
+            throw new JsonParseException("Current token is not NUMBER: " + current);
+        }
+    }
+
+    /**
+     * 当前嵌套深度
+     *
+     * @return
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * 当前Token为对象或数组的开始时，跳过其全部子节点，停在与之匹配的结束Token上；
+     * 其它情况下不做任何处理
+     */
+    public void skipChildren() {
+
+        TokenType type = currentToken();
+        if (type != TokenType.BEGIN_OBJECT && type != TokenType.BEGIN_ARRAY) {
+            return;
+        }
+
+        int target = depth - 1;
+        while (depth > target) {
+            if (nextToken() == TokenType.END_DOCUMENT) {
+                throw new JsonParseException("Unexpected end of JSON while skipping children");
+            }
+        }
+    }
+
+    /**
+     * 跳过当前Token之后的一个值，不为其中的内容生成Token，也不处理字符串转义。
+     * 跳过后停在该值的最后一个Token上，嵌套深度不变；下一个Token是对象或数组的结束时只读取该Token
+     *
+     * @return 当前Token的类型
+     */
+    public TokenType skipValue() {
+
+        if (current == TokenType.END_DOCUMENT) {
+            return TokenType.END_DOCUMENT;
+        }
+
+        if (tokenizer == null) {
+            nextToken();
+            skipChildren();
+            return current;
+        }
+
+        try {
+            charReader.skipWhitespace();
+            char ch = charReader.peek();
+            if (!charReader.hasMore() || ch == '}' || ch == ']') {
+                // 没有值可以跳过，按普通Token读取以维护嵌套深度
+                return nextToken();
+            }
+        } catch (IOException e) {
+            throw new ReadException("Failed to read next character");
+        }
+
+        current = tokenizer.skipValue();
+        currentValue = null;
+        return current;
+    }
+
+    private TokenType pull() {
+
+        if (tokenizer != null) {
+            return tokenizer.advance();
+        }
+
+        currentToken = tokens.hasNext() ? tokens.next() : new Token(TokenType.END_DOCUMENT, null);
+        return currentToken.getType();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (charReader != null) {
+            charReader.close();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.study.json.enums.TokenType;
 import com.study.json.exception.JsonParseException;
 import com.study.json.exception.ReadException;
 import com.study.json.pojo.Token;
+import com.study.json.util.NumberBuilder;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -30,6 +31,38 @@ public class JsonTokenizer {
      */
     private List<Token> tokens;
 
+    /**
+     * 当前Token的类型
+     */
+    private TokenType type;
+
+    /**
+     * 当前Token的字符内容，字符串和数字共用，每个Token开始时重置
+     */
+    private final StringBuilder valueBuffer = new StringBuilder();
+
+    /**
+     * 当前布尔Token的值
+     */
+    private boolean booleanValue;
+
+    /**
+     * 当前数字Token的有效数字和指数，读取数字时同步累积
+     */
+    private final NumberBuilder number = new NumberBuilder();
+
+    /**
+     * 复用时保留的字符缓冲区上限，读过很长的字符串后释放多余的空间
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    /**
+     * 数字的组成部分
+     */
+    private static final int DIGIT_INTEGER = 0;
+    private static final int DIGIT_FRACTION = 1;
+    private static final int DIGIT_EXPONENT = 2;
+
     private static final String TRUE_LITERAL = "true";
     private static final String FALSE_LITERAL = "false";
     private static final String NULL_LITERAL = "null";
@@ -47,6 +80,29 @@ public class JsonTokenizer {
         ESCAPE_MAP.put('t', '\t');
     }
 
+    public JsonTokenizer() {
+    }
+
+    /**
+     * 以拉取模式创建词法解析器，通过 {@link #nextToken()} 逐个获取Token
+     *
+     * @param charReader
+     */
+    public JsonTokenizer(CharReader charReader) {
+        this.charReader = charReader;
+    }
+
+    /**
+     * 清除上一次读取的状态，字符流由调用方重置
+     */
+    void reset() {
+        type = null;
+        valueBuffer.setLength(0);
+        if (valueBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+            valueBuffer.trimToSize();
+        }
+    }
+
     /**
      * 对输入的字符串进行词法解析，生成Token集合
      *
@@ -88,7 +144,7 @@ public class JsonTokenizer {
 
         do {
 
-            token = generateToken();
+            token = nextToken();
             tokens.add(token);
 
         } while (token.getType() != TokenType.END_DOCUMENT);
@@ -96,31 +152,42 @@ public class JsonTokenizer {
     }
 
     /**
-     * 生成一个Token
+     * 从字符流中读取下一个Token，读取完毕后始终返回 END_DOCUMENT
      *
      * @return
      */
-    private Token generateToken() {
+    public Token nextToken() {
+        TokenType tokenType = advance();
+        return new Token(tokenType, value());
+    }
 
-        try {
+    /**
+     * 前进到下一个Token，只记录类型和字符内容而不创建Token对象，
+     * 需要值时再通过 {@link #value()} 或 {@link #valueChars()} 获取
+     *
+     * @return 当前Token的类型
+     */
+    public TokenType advance() {
 
-            if (!charReader.hasMore()) {
-                return new Token(TokenType.END_DOCUMENT, null);
-            }
+        try {
 
             // 跳过空白字符
             charReader.skipWhitespace();
 
+            if (!charReader.hasMore()) {
+                return type = TokenType.END_DOCUMENT;
+            }
+
             char ch = charReader.next();
 
             // 根据首字符判断要生成的Token类型
-            return switch (ch) {
-                case '{' -> new Token(TokenType.BEGIN_OBJECT, "{");
-                case '}' -> new Token(TokenType.END_OBJECT, "}");
-                case '[' -> new Token(TokenType.BEGIN_ARRAY, "[");
-                case ']' -> new Token(TokenType.END_ARRAY, "]");
-                case ':' -> new Token(TokenType.SEP_COLON, ":");
-                case ',' -> new Token(TokenType.SEP_COMMA, ",");
+            type = switch (ch) {
+                case '{' -> TokenType.BEGIN_OBJECT;
+                case '}' -> TokenType.END_OBJECT;
+                case '[' -> TokenType.BEGIN_ARRAY;
+                case ']' -> TokenType.END_ARRAY;
+                case ':' -> TokenType.SEP_COLON;
+                case ',' -> TokenType.SEP_COMMA;
                 // 处理字符串
                 case '"' -> readString();
                 // 处理null
@@ -128,10 +195,16 @@ public class JsonTokenizer {
                 // 处理布尔值
                 case 't', 'f' -> readBoolean(ch);
                 // 处理数字
-                case '-' -> readNumber();
-                default -> isDigit(ch) ? readNumber() : new Token(TokenType.END_DOCUMENT, null);
+                case '-' -> readNumber(ch);
+                default -> {
+                    if (!isDigit(ch)) {
+                        throw new JsonParseException("Unexpected character '" + ch + "'");
+                    }
+                    yield readNumber(ch);
+                }
             };
 
+            return type;
 
         } catch (IOException e) {
             // 读取字符时发生异常
@@ -139,23 +212,221 @@ public class JsonTokenizer {
         }
     }
 
+    /**
+     * 当前Token的类型
+     *
+     * @return
+     */
+    public TokenType type() {
+        return type;
+    }
+
+    /**
+     * 当前字符串或数字Token的字符内容，返回的是内部复用的缓冲区，读取下一个Token后失效
+     *
+     * @return
+     */
+    public CharSequence valueChars() {
+        return valueBuffer;
+    }
+
+    /**
+     * 将当前字符串Token作为对象的key物化，相同内容的key返回同一个实例
+     *
+     * @return
+     */
+    public String keyValue() {
+        if (type != TokenType.STRING) {
+            return value();
+        }
+        return SymbolTable.SHARED.intern(valueBuffer);
+    }
+
+    /**
+     * 将当前Token的值物化为字符串
+     *
+     * @return
+     */
+    public String value() {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case BEGIN_OBJECT -> "{";
+            case END_OBJECT -> "}";
+            case BEGIN_ARRAY -> "[";
+            case END_ARRAY -> "]";
+            case SEP_COLON -> ":";
+            case SEP_COMMA -> ",";
+            case NULL -> NULL_LITERAL;
+            case BOOLEAN -> booleanValue ? TRUE_LITERAL : FALSE_LITERAL;
+            case STRING, NUMBER -> valueBuffer.toString();
+            case END_DOCUMENT -> null;
+        };
+    }
+
+    /**
+     * 当前布尔Token的值
+     *
+     * @return
+     */
+    public boolean booleanValue() {
+        return booleanValue;
+    }
+
+    /**
+     * 当前数字Token的值
+     *
+     * @return Integer、Long、BigInteger、Double或BigDecimal
+     */
+    public Number numberValue() {
+        return number.toNumber(valueBuffer);
+    }
+
+    /**
+     * 当前数字Token是否为long范围内的整数
+     *
+     * @return
+     */
+    public boolean isLongNumber() {
+        return number.isLong();
+    }
+
+    /**
+     * 当前数字Token是否为小数或指数形式
+     *
+     * @return
+     */
+    public boolean isDecimalNumber() {
+        return !number.isIntegral();
+    }
+
+    /**
+     * 当前数字Token的long值，不创建包装对象
+     *
+     * @return
+     */
+    public long longValue() {
+        return number.longValue(valueBuffer);
+    }
+
+    /**
+     * 当前数字Token的int值，不创建包装对象
+     *
+     * @return
+     */
+    public int intValue() {
+        return number.intValue(valueBuffer);
+    }
+
+    /**
+     * 当前数字Token的double值，不创建包装对象
+     *
+     * @return
+     */
+    public double doubleValue() {
+        return number.doubleValue(valueBuffer);
+    }
+
+    /**
+     * 跳过下一个值，对象和数组只做括号匹配，字符串不做转义处理，内容也不做校验。
+     * 跳过后当前Token为该值的最后一个Token（对象和数组为结束Token），字符内容被清空
+     *
+     * @return 当前Token的类型
+     */
+    public TokenType skipValue() {
+
+        try {
+
+            charReader.skipWhitespace();
+
+            if (!charReader.hasMore()) {
+                return type = TokenType.END_DOCUMENT;
+            }
+
+            char ch = charReader.peek();
+            if (ch == '{' || ch == '[') {
+                charReader.next();
+                valueBuffer.setLength(0);
+                return type = skipContainer(ch);
+            } else if (ch == '"') {
+                charReader.next();
+                valueBuffer.setLength(0);
+                skipString();
+                return type = TokenType.STRING;
+            }
+
+            // 标量按正常方式读取
+            return advance();
+
+        } catch (IOException e) {
+            throw new ReadException("Failed to read next character");
+        }
+    }
+
+    /**
+     * 跳过对象或数组的剩余部分
+     *
+     * @param open 开始括号
+     * @return 结束Token的类型
+     * @throws IOException
+     */
+    private TokenType skipContainer(char open) throws IOException {
+
+        int depth = 1;
+        while (true) {
+            char ch = charReader.next();
+            if (ch == '"') {
+                skipString();
+            } else if (ch == '{' || ch == '[') {
+                depth++;
+            } else if (ch == '}' || ch == ']') {
+                if (--depth == 0) {
+                    if ((open == '{') != (ch == '}')) {
+                        throw new JsonParseException("Mismatched closing bracket: " + ch);
+                    }
+                    return ch == '}' ? TokenType.END_OBJECT : TokenType.END_ARRAY;
+                }
+            } else if (ch == CharReader.EOF && !charReader.hasMore()) {
+                throw new ReadException("Unexpected end of JSON while skipping value");
+            }
+        }
+    }
+
+    /**
+     * 跳过字符串的剩余部分，包括结尾的引号
+     *
+     * @throws IOException
+     */
+    private void skipString() throws IOException {
+        while (true) {
+            charReader.skipStringRun();
+            char ch = charReader.next();
+            if (ch == '"') {
+                return;
+            } else if (ch == '\\') {
+                charReader.next();
+            } else if (ch == CharReader.EOF && !charReader.hasMore()) {
+                throw new ReadException("Unterminated string");
+            }
+        }
+    }
+
     /**
      * 处理布尔值
      *
      * @param firstChar 首字符
      * @return
      */
-    private Token readBoolean(char firstChar) {
+    private TokenType readBoolean(char firstChar) {
 
         String expected = firstChar == 't' ? TRUE_LITERAL : FALSE_LITERAL;
-        StringBuilder builder = new StringBuilder().append(firstChar);
         try {
             for (int i = 1; i < expected.length(); i++) {
-                char ch = charReader.next();
-                validateExpectedChar(expected.charAt(i), ch);
-                builder.append(ch);
+                validateExpectedChar(expected.charAt(i), charReader.next());
             }
-            return new Token(TokenType.BOOLEAN, builder.toString());
+            booleanValue = firstChar == 't';
+            return TokenType.BOOLEAN;
         } catch (IOException e) {
             throw new ReadException("Unexpected characters in boolean value");
         }
@@ -166,12 +437,12 @@ public class JsonTokenizer {
      *
      * @return
      */
-    private Token readNull() {
+    private TokenType readNull() {
         try {
             validateExpectedChar('u', charReader.next());
             validateExpectedChar('l', charReader.next());
             validateExpectedChar('l', charReader.next());
-            return new Token(TokenType.NULL, NULL_LITERAL);
+            return TokenType.NULL;
         } catch (IOException e) {
             throw new ReadException("Unexpected characters in null value");
         }
@@ -182,17 +453,22 @@ public class JsonTokenizer {
      *
      * @return
      */
-    private Token readString() {
+    private TokenType readString() {
 
-        StringBuilder builder = new StringBuilder();
+        StringBuilder builder = valueBuffer;
+        builder.setLength(0);
         try {
             while (true) {
+                // 普通字符整段复制，逐个处理的只有引号、转义和非法字符
+                charReader.readStringRun(builder);
                 char ch = charReader.next();
                 if (ch == '"') {
                     break;
                 } else if (ch == '\\') {
                     // 处理转义字符
                     processEscape(builder);
+                } else if (ch == CharReader.EOF && !charReader.hasMore()) {
+                    throw new ReadException("Unterminated string");
                 } else if (isControlCharacter(ch)) {
                     // 不可以是控制字符
                     throw new ReadException("Invalid control character in string");
@@ -200,7 +476,7 @@ public class JsonTokenizer {
                     builder.append(ch);
                 }
             }
-            return new Token(TokenType.STRING, builder.toString());
+            return TokenType.STRING;
         } catch (IOException e) {
             throw new ReadException("Failed to read string value");
         }
@@ -214,9 +490,10 @@ public class JsonTokenizer {
      */
     private void processEscape(StringBuilder builder) throws IOException {
         char ch = charReader.next();
-        if (ESCAPE_MAP.containsKey(ch)) {
+        Character escaped = ESCAPE_MAP.get(ch);
+        if (escaped != null) {
             // 预定义的转义字符
-            builder.append(ESCAPE_MAP.get(ch));
+            builder.append(escaped.charValue());
         } else if (ch == 'u') {
             // 处理Unicode转义字符
             builder.append(readUnicodeEscape());
@@ -232,50 +509,56 @@ public class JsonTokenizer {
      * @throws IOException
      */
     private char readUnicodeEscape() throws IOException {
-        StringBuilder hex = new StringBuilder();
+        int code = 0;
         for (int i = 0; i < 4; i++) {
-            hex.append(charReader.next());
+            char ch = charReader.next();
+            int digit = Character.digit(ch, 16);
+            if (digit < 0) {
+                throw new JsonParseException("Invalid unicode escape character: " + ch);
+            }
+            code = (code << 4) | digit;
         }
-        return (char) Integer.parseInt(hex.toString(), 16);
+        return (char) code;
     }
 
 
     /**
-     * 处理数字
+     * 处理数字，读取字符的同时累积有效数字和指数
      *
+     * @param firstChar 首字符
      * @return
      */
-    private Token readNumber() {
+    private TokenType readNumber(char firstChar) {
+
+        StringBuilder builder = valueBuffer;
+        builder.setLength(0);
+        builder.append(firstChar);
 
-        charReader.back();
-        StringBuilder builder = new StringBuilder();
+        boolean negative = firstChar == '-';
+        number.reset(negative);
+        if (!negative) {
+            number.integerDigit(firstChar);
+        }
 
         try {
-            // 读取整数部分
-            readIntegerPart(builder);
+            // 读取整数部分，多位整数不能以0开头
+            int digits = readDigits(builder, DIGIT_INTEGER) + (negative ? 0 : 1);
+            if (digits == 0) {
+                throw new JsonParseException("Invalid number: " + builder);
+            }
+            if (digits > 1 && builder.charAt(negative ? 1 : 0) == '0') {
+                throw new JsonParseException("Leading zeros are not allowed: " + builder);
+            }
             // 读取小数部分
             readFractionPart(builder);
             // 读取指数部分
             readExponentPart(builder);
-            return new Token(TokenType.NUMBER, builder.toString());
+            return TokenType.NUMBER;
         } catch (IOException e) {
             throw new ReadException("Unexpected characters in number value");
         }
     }
 
-    /**
-     * 读取整数部分
-     *
-     * @param builder
-     * @throws IOException
-     */
-    private void readIntegerPart(StringBuilder builder) throws IOException {
-        if (charReader.peek() == '-') {
-            builder.append(charReader.next());
-        }
-        readDigits(builder);
-    }
-
     /**
      * 读取小数部分
      *
@@ -285,7 +568,10 @@ public class JsonTokenizer {
     private void readFractionPart(StringBuilder builder) throws IOException {
         if (charReader.peek() == '.') {
             builder.append(charReader.next());
-            readDigits(builder);
+            number.fraction();
+            if (readDigits(builder, DIGIT_FRACTION) == 0) {
+                throw new JsonParseException("Invalid number: " + builder);
+            }
         }
     }
 
@@ -298,10 +584,14 @@ public class JsonTokenizer {
     private void readExponentPart(StringBuilder builder) throws IOException {
         if (charReader.peek() == 'e' || charReader.peek() == 'E') {
             builder.append(charReader.next());
+            boolean exponentNegative = charReader.peek() == '-';
             if (charReader.peek() == '+' || charReader.peek() == '-') {
                 builder.append(charReader.next());
             }
-            readDigits(builder);
+            number.exponent(exponentNegative);
+            if (readDigits(builder, DIGIT_EXPONENT) == 0) {
+                throw new JsonParseException("Invalid number: " + builder);
+            }
         }
     }
 
@@ -309,15 +599,22 @@ public class JsonTokenizer {
      * 读取连续数字
      *
      * @param builder
+     * @param part    数字所在的部分
+     * @return 读取的位数
      */
-    private void readDigits(StringBuilder builder) {
-        try {
-            while (isDigit(charReader.peek())) {
-                builder.append(charReader.next());
+    private int readDigits(StringBuilder builder, int part) throws IOException {
+        int count = 0;
+        char ch;
+        while (isDigit(ch = charReader.peek())) {
+            builder.append(charReader.next());
+            switch (part) {
+                case DIGIT_INTEGER -> number.integerDigit(ch);
+                case DIGIT_FRACTION -> number.fractionDigit(ch);
+                default -> number.exponentDigit(ch);
             }
-        } catch (IOException e) {
-            throw new ReadException("read exception");
+            count++;
         }
+        return count;
     }
 
     /**
@@ -349,6 +646,6 @@ public class JsonTokenizer {
      * @return
      */
     private boolean isDigit(char ch) {
-        return Character.isDigit(ch);
+        return ch >= '0' && ch <= '9';
     }
 }
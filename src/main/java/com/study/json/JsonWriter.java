@@ -0,0 +1,647 @@
+package com.study.json;
+
+import com.study.json.bind.ClassBinding;
+import com.study.json.bind.FieldBinding;
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.DateUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description Json序列化器，支持JsonObject、JsonArray、集合、数组和普通Java对象。
+ * 输出先写入内部复用的字符缓冲区，缓冲区满或flush时一次性写出；写出到OutputStream和ByteBuffer时
+ * 直接编码为UTF-8字节，不经过中间的String和CharsetEncoder
+ **/
+public class JsonWriter implements Closeable, Flushable {
+
+    /**
+     * 默认缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 一个字符缓冲区编码后的最大字节数：每个字符最多3字节，上次留下的高位代理字符与本次开头组成代理对时再多4字节
+     */
+    private static final int MAX_ENCODED_SIZE = BUFFER_SIZE * 3 + 4;
+
+    /**
+     * 需要转义的字符对应的转义序列，null表示无需转义
+     */
+    private static final String[] ESCAPES = new String[128];
+
+    private static final char[] MIN_LONG = "-9223372036854775808".toCharArray();
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = String.format("\\u%04x", i);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    /**
+     * 字符输出目标
+     */
+    private Writer writer;
+
+    /**
+     * 字节输出目标
+     */
+    private OutputStream outputStream;
+
+    /**
+     * 字节缓冲区输出目标
+     */
+    private ByteBuffer byteBuffer;
+
+    /**
+     * 字符缓冲区，没有输出目标时按需扩容，保存全部输出
+     */
+    private char[] buffer;
+
+    /**
+     * 缓冲区中已写入的字符数
+     */
+    private int pos;
+
+    /**
+     * 编码到OutputStream时使用的字节缓冲区
+     */
+    private byte[] bytes;
+
+    /**
+     * 上一次写出时留下的高位代理字符，等待与下一个低位代理字符一起编码
+     */
+    private char pendingHighSurrogate;
+
+    /**
+     * 写入内存，通过 {@link #toString()} 获取结果
+     */
+    public JsonWriter() {
+        this.buffer = new char[256];
+    }
+
+    public JsonWriter(Writer writer) {
+        this.writer = Objects.requireNonNull(writer, "writer is null");
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * 以UTF-8编码写入输出流
+     *
+     * @param outputStream
+     */
+    public JsonWriter(OutputStream outputStream) {
+        this.outputStream = Objects.requireNonNull(outputStream, "outputStream is null");
+        this.buffer = new char[BUFFER_SIZE];
+        this.bytes = new byte[MAX_ENCODED_SIZE];
+    }
+
+    /**
+     * 以UTF-8编码写入字节缓冲区，空间不足时抛出 {@link BufferOverflowException}
+     *
+     * @param byteBuffer
+     */
+    public JsonWriter(ByteBuffer byteBuffer) {
+        this.byteBuffer = Objects.requireNonNull(byteBuffer, "byteBuffer is null");
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * 写入一个值
+     *
+     * @param value
+     * @return
+     * @throws IOException
+     */
+    public JsonWriter writeValue(Object value) throws IOException {
+
+        if (value == null) {
+            writeRaw("null");
+        } else if (value instanceof CharSequence str) {
+            writeString(str);
+        } else if (value instanceof Boolean bool) {
+            writeRaw(bool ? "true" : "false");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeNumber(((Number) value).longValue());
+        } else if (value instanceof Double d) {
+            writeNumber(d.doubleValue());
+        } else if (value instanceof Float f) {
+            writeNumber(f.floatValue());
+        } else if (value instanceof Number number) {
+            writeRaw(number.toString());
+        } else if (value instanceof Character ch) {
+            writeString(String.valueOf(ch));
+        } else if (isStringValue(value)) {
+            // Path同时也是Iterable，需要在集合之前判断
+            writeString(value.toString());
+        } else if (value instanceof Optional<?> optional) {
+            writeValue(optional.orElse(null));
+        } else if (value instanceof JsonObject object) {
+            writeEntries(object.entries());
+        } else if (value instanceof Map<?, ?> map) {
+            writeEntries(map.entrySet());
+        } else if (value instanceof JsonArray array && (array.longValues() != null || array.doubleValues() != null)) {
+            writeNumbers(array);
+        } else if (value instanceof Iterable<?> iterable) {
+            writeIterable(iterable);
+        } else if (value.getClass().isArray()) {
+            writeArray(value);
+        } else if (value instanceof Enum<?> e) {
+            writeString(e.name());
+        } else if (DateUtils.getDateType(value.getClass()) != null) {
+            writeString(DateUtils.format(value));
+        } else {
+            writeBean(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * 以toString()作为字符串写出的JDK值类型
+     */
+    private static boolean isStringValue(Object value) {
+        return value instanceof UUID || value instanceof URI || value instanceof URL || value instanceof Path
+                || value instanceof File || value instanceof Locale || value instanceof Currency || value instanceof ZoneId
+                || value instanceof Duration || value instanceof Period || value instanceof Charset
+                || value instanceof Pattern || value instanceof InetAddress;
+    }
+
+    /**
+     * 写入换行符，用于按行分隔的json
+     *
+     * @throws IOException
+     */
+    public void newLine() throws IOException {
+        writeChar('\n');
+    }
+
+    /**
+     * 写入转义后的字符串，连续的无需转义的字符整段复制
+     *
+     * @param str
+     * @throws IOException
+     */
+    public void writeString(CharSequence str) throws IOException {
+
+        writeChar('"');
+
+        int length = str.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = str.charAt(i);
+            if (ch < ESCAPES.length && ESCAPES[ch] != null) {
+                writeChars(str, start, i);
+                writeRaw(ESCAPES[ch]);
+                start = i + 1;
+            }
+        }
+        writeChars(str, start, length);
+
+        writeChar('"');
+    }
+
+    /**
+     * 写入整数，直接生成字符，不创建中间字符串
+     *
+     * @param value
+     * @throws IOException
+     */
+    public void writeNumber(long value) throws IOException {
+
+        if (value == Long.MIN_VALUE) {
+            writeRaw(MIN_LONG, MIN_LONG.length);
+            return;
+        }
+
+        ensureCapacity(20);
+
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = -value;
+        }
+
+        int digits = digitCount(value);
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        pos = end;
+    }
+
+    /**
+     * 写入浮点数，NaN和无穷大不是合法的json数字
+     *
+     * @param value
+     * @throws IOException
+     */
+    public void writeNumber(double value) throws IOException {
+
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON does not allow non-finite numbers: " + value);
+        }
+
+        if (value == (long) value && Math.abs(value) < 1e7 && Double.doubleToRawLongBits(value) != Long.MIN_VALUE) {
+            // 整数值保留小数点，与Double.toString的格式保持一致，1e7及以上Double.toString使用科学计数法
+            writeNumber((long) value);
+            writeRaw(".0");
+            return;
+        }
+
+        writeRaw(Double.toString(value));
+    }
+
+    /**
+     * 写入单精度浮点数
+     *
+     * @param value
+     * @throws IOException
+     */
+    public void writeNumber(float value) throws IOException {
+
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON does not allow non-finite numbers: " + value);
+        }
+
+        writeRaw(Float.toString(value));
+    }
+
+    private void writeEntries(Iterable<? extends Map.Entry<?, ?>> entries) throws IOException {
+
+        writeChar('{');
+
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : entries) {
+            if (!first) {
+                writeChar(',');
+            }
+            first = false;
+            writeString(String.valueOf(entry.getKey()));
+            writeChar(':');
+            writeValue(entry.getValue());
+        }
+
+        writeChar('}');
+    }
+
+    /**
+     * 写入基本类型存储的数组，不经过装箱
+     */
+    private void writeNumbers(JsonArray array) throws IOException {
+
+        long[] longs = array.longValues();
+        double[] doubles = array.doubleValues();
+        int size = array.size();
+
+        writeChar('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                writeChar(',');
+            }
+            if (longs != null) {
+                writeNumber(longs[i]);
+            } else {
+                writeNumber(doubles[i]);
+            }
+        }
+        writeChar(']');
+    }
+
+    private void writeIterable(Iterable<?> iterable) throws IOException {
+
+        writeChar('[');
+
+        boolean first = true;
+        for (Object element : iterable) {
+            if (!first) {
+                writeChar(',');
+            }
+            first = false;
+            writeValue(element);
+        }
+
+        writeChar(']');
+    }
+
+    private void writeArray(Object array) throws IOException {
+
+        writeChar('[');
+
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                writeChar(',');
+            }
+            if (array instanceof int[] ints) {
+                writeNumber(ints[i]);
+            } else if (array instanceof long[] longs) {
+                writeNumber(longs[i]);
+            } else if (array instanceof double[] doubles) {
+                writeNumber(doubles[i]);
+            } else {
+                writeValue(Array.get(array, i));
+            }
+        }
+
+        writeChar(']');
+    }
+
+    /**
+     * 按照绑定计划写出对象的属性，基本类型属性直接读取，不经过包装类型
+     */
+    private void writeBean(Object bean) throws IOException {
+
+        // 未开放的模块（例如java.base）中的类不能反射读取私有属性
+        Class<?> type = bean.getClass();
+        Module module = type.getModule();
+        if (module.isNamed() && !module.isOpen(type.getPackageName(), JsonWriter.class.getModule())) {
+            throw new JsonParseException("Can not serialize " + type.getName() + ": package " + type.getPackageName() + " of module " + module.getName() + " is not open");
+        }
+
+        ClassBinding<?> binding = ClassBinding.of(type);
+
+        writeChar('{');
+
+        boolean first = true;
+        try {
+            for (FieldBinding field : binding.fields()) {
+
+                if (Modifier.isTransient(field.getField().getModifiers())) {
+                    continue;
+                }
+
+                if (!first) {
+                    writeChar(',');
+                }
+                first = false;
+
+                writeString(field.getName());
+                writeChar(':');
+
+                Class<?> fieldType = field.getType();
+                if (fieldType == int.class) {
+                    writeNumber(field.getInt(bean));
+                } else if (fieldType == long.class) {
+                    writeNumber(field.getLong(bean));
+                } else if (fieldType == double.class) {
+                    writeNumber(field.getDouble(bean));
+                } else if (fieldType == boolean.class) {
+                    writeRaw(field.getBoolean(bean) ? "true" : "false");
+                } else {
+                    writeValue(field.get(bean));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not read fields of " + bean.getClass().getName(), e);
+        }
+
+        writeChar('}');
+    }
+
+    private void writeChar(char ch) throws IOException {
+        ensureCapacity(1);
+        buffer[pos++] = ch;
+    }
+
+    private void writeRaw(String str) throws IOException {
+        writeChars(str, 0, str.length());
+    }
+
+    private void writeRaw(char[] chars, int length) throws IOException {
+        ensureCapacity(length);
+        System.arraycopy(chars, 0, buffer, pos, length);
+        pos += length;
+    }
+
+    /**
+     * 复制字符序列的一段，超过缓冲区大小时分批写出
+     */
+    private void writeChars(CharSequence str, int start, int end) throws IOException {
+
+        while (start < end) {
+
+            if (pos == buffer.length) {
+                ensureCapacity(1);
+            }
+
+            int count = Math.min(end - start, buffer.length - pos);
+            if (str instanceof String s) {
+                s.getChars(start, start + count, buffer, pos);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    buffer[pos + i] = str.charAt(start + i);
+                }
+            }
+            pos += count;
+            start += count;
+        }
+    }
+
+    /**
+     * 保证缓冲区至少还有指定的空间：有输出目标时写出已有内容，否则扩容
+     */
+    private void ensureCapacity(int required) throws IOException {
+
+        if (buffer.length - pos >= required) {
+            return;
+        }
+
+        if (writer == null && outputStream == null && byteBuffer == null) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, pos + required));
+            return;
+        }
+
+        flushBuffer();
+    }
+
+    /**
+     * 将字符缓冲区中的内容写到输出目标
+     */
+    private void flushBuffer() throws IOException {
+
+        if (pos == 0) {
+            return;
+        }
+
+        if (writer != null) {
+            writer.write(buffer, 0, pos);
+        } else if (outputStream != null) {
+            int length = encode(bytes, 0);
+            outputStream.write(bytes, 0, length);
+        } else if (byteBuffer != null) {
+            if (byteBuffer.hasArray()) {
+                int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+                if (byteBuffer.remaining() < pos * 3 + 4) {
+                    encodeToBuffer();
+                } else {
+                    int length = encode(byteBuffer.array(), offset) - offset;
+                    byteBuffer.position(byteBuffer.position() + length);
+                }
+            } else {
+                encodeToBuffer();
+            }
+        }
+
+        pos = 0;
+    }
+
+    /**
+     * 将字符缓冲区编码为UTF-8写入字节数组，返回写入结束的位置
+     */
+    private int encode(byte[] out, int offset) {
+
+        int n = offset;
+        int i = 0;
+
+        if (pendingHighSurrogate != 0) {
+            if (Character.isLowSurrogate(buffer[0])) {
+                n = encodeCodePoint(out, n, Character.toCodePoint(pendingHighSurrogate, buffer[0]));
+                i = 1;
+            } else {
+                out[n++] = '?';
+            }
+            pendingHighSurrogate = 0;
+        }
+
+        for (; i < pos; i++) {
+            char ch = buffer[i];
+            if (ch < 0x80) {
+                out[n++] = (byte) ch;
+            } else if (ch < 0x800) {
+                out[n++] = (byte) (0xC0 | (ch >> 6));
+                out[n++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                if (Character.isHighSurrogate(ch) && i + 1 < pos && Character.isLowSurrogate(buffer[i + 1])) {
+                    n = encodeCodePoint(out, n, Character.toCodePoint(ch, buffer[++i]));
+                } else if (Character.isHighSurrogate(ch) && i + 1 == pos) {
+                    // 代理对被缓冲区边界截断，留到下一次编码
+                    pendingHighSurrogate = ch;
+                } else {
+                    // 不成对的代理字符按问号输出
+                    out[n++] = '?';
+                }
+            } else {
+                out[n++] = (byte) (0xE0 | (ch >> 12));
+                out[n++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                out[n++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        return n;
+    }
+
+    private int encodeCodePoint(byte[] out, int n, int codePoint) {
+        out[n++] = (byte) (0xF0 | (codePoint >> 18));
+        out[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+        return n;
+    }
+
+    /**
+     * 剩余空间可能不足时分段编码，保证溢出时抛出 {@link BufferOverflowException}
+     */
+    private void encodeToBuffer() {
+
+        byte[] chunk = bytes != null ? bytes : (bytes = new byte[MAX_ENCODED_SIZE]);
+        int length = encode(chunk, 0);
+        byteBuffer.put(chunk, 0, length);
+    }
+
+    /**
+     * 已写入的内容，仅写入内存时可用
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        if (writer != null || outputStream != null || byteBuffer != null) {
+            return super.toString();
+        }
+        return new String(buffer, 0, pos);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer == null && outputStream == null && byteBuffer == null) {
+            return;
+        }
+        flushBuffer();
+        flushPendingSurrogate();
+        if (writer != null) {
+            writer.flush();
+        } else if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * 最后一次写出时仍在等待的高位代理字符已经不可能配对，与其它不成对的代理字符一样按问号输出
+     */
+    private void flushPendingSurrogate() throws IOException {
+
+        if (pendingHighSurrogate == 0) {
+            return;
+        }
+
+        pendingHighSurrogate = 0;
+        if (outputStream != null) {
+            outputStream.write('?');
+        } else if (byteBuffer != null) {
+            byteBuffer.put((byte) '?');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (writer != null) {
+            writer.close();
+        } else if (outputStream != null) {
+            outputStream.close();
+        }
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+}
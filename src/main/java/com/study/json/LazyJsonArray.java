@@ -0,0 +1,157 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 延迟解析的json数组，保留源字符串，只在访问某个下标时才解码对应的元素。
+ * 第一次访问时扫描一遍元素的位置，元素只做括号匹配；遍历、序列化或修改时才会完整解码。非线程安全
+ **/
+public class LazyJsonArray extends JsonArray {
+
+    /**
+     * 未解码的元素
+     */
+    private static final Object UNDECODED = new Object();
+
+    private final String source;
+
+    /**
+     * 左方括号在源字符串中的位置
+     */
+    private final int start;
+
+    /**
+     * 每个元素的开头位置
+     */
+    private int[] offsets;
+
+    private int count = -1;
+
+    private Object[] values;
+
+    /**
+     * 是否已经完整解码到父类中
+     */
+    private boolean materialized;
+
+    LazyJsonArray(String source, int start) {
+        this.source = source;
+        this.start = start;
+    }
+
+    @Override
+    public Object get(int index) {
+
+        if (materialized) {
+            return super.get(index);
+        }
+
+        index();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+        }
+
+        Object value = values[index];
+        if (value == UNDECODED) {
+            value = LazyScanner.readValue(source, offsets[index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        if (materialized) {
+            return super.size();
+        }
+        index();
+        return count;
+    }
+
+    @Override
+    public void add(Object obj) {
+        materialize();
+        super.add(obj);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        materialize();
+        return super.iterator();
+    }
+
+    @Override
+    void freezeTree() {
+        materialize();
+        super.freezeTree();
+    }
+
+    /**
+     * 扫描所有元素的位置
+     */
+    private void index() {
+
+        if (count >= 0) {
+            return;
+        }
+
+        int[] positions = new int[16];
+        int n = 0;
+
+        int pos = LazyScanner.skipWhitespace(source, start + 1);
+        if (LazyScanner.charAt(source, pos) == ']') {
+            pos = -1;
+        }
+
+        while (pos >= 0) {
+
+            pos = LazyScanner.skipWhitespace(source, pos);
+            int end = LazyScanner.skipValue(source, pos);
+
+            if (n == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+            positions[n++] = pos;
+
+            pos = LazyScanner.skipWhitespace(source, end);
+            char ch = LazyScanner.charAt(source, pos);
+            if (ch == ']') {
+                pos = -1;
+            } else if (ch == ',') {
+                pos++;
+            } else {
+                throw new JsonParseException("Expected ',' or ']' at position " + pos);
+            }
+        }
+
+        this.offsets = positions;
+        this.count = n;
+        this.values = new Object[count];
+        Arrays.fill(values, UNDECODED);
+    }
+
+    /**
+     * 解码所有元素并放入父类的列表中
+     */
+    private void materialize() {
+
+        if (materialized) {
+            return;
+        }
+
+        index();
+        for (int i = 0; i < count; i++) {
+            super.add(get(i));
+        }
+
+        materialized = true;
+        offsets = null;
+        values = null;
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 延迟解析的json对象，保留源字符串，只在访问某个key时才解码对应的值。
+ * 第一次访问时扫描一遍成员的位置，值只做括号匹配；嵌套的对象和数组同样是延迟解析的。
+ * 遍历、序列化、修改或转换为Java对象时才会完整解码所有成员。非线程安全
+ **/
+public class LazyJsonObject extends JsonObject {
+
+    /**
+     * 未解码的值
+     */
+    private static final Object UNDECODED = new Object();
+
+    private final String source;
+
+    /**
+     * 左花括号在源字符串中的位置
+     */
+    private final int start;
+
+    /**
+     * 每个成员占三个位置：key的开头引号、key结尾引号之后的位置、值的开头
+     */
+    private int[] members;
+
+    private int count = -1;
+
+    /**
+     * 已解码的值，下标与成员顺序一致
+     */
+    private Object[] values;
+
+    /**
+     * 是否已经完整解码到父类中
+     */
+    private boolean materialized;
+
+    LazyJsonObject(String source, int start) {
+        this.source = source;
+        this.start = start;
+    }
+
+    @Override
+    public Object get(String key) {
+
+        if (materialized) {
+            return super.get(key);
+        }
+
+        int index = find(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return materialized ? super.containsKey(key) : find(key) >= 0;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        materialize();
+        super.put(key, value);
+    }
+
+    @Override
+    Set<Map.Entry<String, Object>> entries() {
+        materialize();
+        return super.entries();
+    }
+
+    /**
+     * 查找key对应的成员，重复的key以最后一个为准
+     *
+     * @return 成员下标，不存在时返回-1
+     */
+    private int find(String key) {
+        index();
+        for (int i = count - 1; i >= 0; i--) {
+            if (LazyScanner.keyEquals(source, members[i * 3], members[i * 3 + 1], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object value(int index) {
+        Object value = values[index];
+        if (value == UNDECODED) {
+            value = LazyScanner.readValue(source, members[index * 3 + 2]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * 扫描所有成员的位置
+     */
+    private void index() {
+
+        if (count >= 0) {
+            return;
+        }
+
+        int[] positions = new int[24];
+        int n = 0;
+
+        int pos = LazyScanner.skipWhitespace(source, start + 1);
+        if (LazyScanner.charAt(source, pos) == '}') {
+            pos = -1;
+        }
+
+        while (pos >= 0) {
+
+            pos = LazyScanner.skipWhitespace(source, pos);
+            if (LazyScanner.charAt(source, pos) != '"') {
+                throw new JsonParseException("Expected string key at position " + pos);
+            }
+            int keyEnd = LazyScanner.skipString(source, pos);
+            int valueStart = LazyScanner.skipWhitespace(source, LazyScanner.expect(source, keyEnd, ':'));
+            int valueEnd = LazyScanner.skipValue(source, valueStart);
+
+            if (n + 3 > positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+            positions[n++] = pos;
+            positions[n++] = keyEnd;
+            positions[n++] = valueStart;
+
+            pos = LazyScanner.skipWhitespace(source, valueEnd);
+            char ch = LazyScanner.charAt(source, pos);
+            if (ch == '}') {
+                pos = -1;
+            } else if (ch == ',') {
+                pos++;
+            } else {
+                throw new JsonParseException("Expected ',' or '}' at position " + pos);
+            }
+        }
+
+        this.members = positions;
+        this.count = n / 3;
+        this.values = new Object[count];
+        Arrays.fill(values, UNDECODED);
+    }
+
+    /**
+     * 解码所有成员并放入父类的map中
+     */
+    private void materialize() {
+
+        if (materialized) {
+            return;
+        }
+
+        index();
+        for (int i = 0; i < count; i++) {
+            String key = LazyScanner.decodeString(source, members[i * 3], members[i * 3 + 1]);
+            super.put(key, value(i));
+        }
+
+        materialized = true;
+        members = null;
+        values = null;
+    }
+
+}
@@ -0,0 +1,280 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.NumberUtils;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 延迟解析使用的源字符串扫描工具。
+ * 跳过的值只做括号匹配（字符串内的括号和转义会被正确忽略），不解码、不校验内部内容
+ **/
+final class LazyScanner {
+
+    private LazyScanner() {
+    }
+
+    /**
+     * 解析源字符串中的单个值，对象和数组返回延迟解析的实现
+     *
+     * @param source
+     * @return
+     */
+    static Object parse(String source) {
+
+        int start = skipWhitespace(source, 0);
+        if (start >= source.length()) {
+            throw new JsonParseException("Empty json");
+        }
+
+        int end = skipWhitespace(source, skipValue(source, start));
+        if (end < source.length()) {
+            throw new JsonParseException("Extra data after JSON value at position " + end);
+        }
+
+        return readValue(source, start);
+    }
+
+    static int skipWhitespace(String source, int pos) {
+        int length = source.length();
+        while (pos < length) {
+            char ch = source.charAt(pos);
+            if (ch != ' ' && ch != '\t' && ch != '\n' && ch != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * 跳过一个值
+     *
+     * @param source
+     * @param pos    值的第一个字符
+     * @return 值之后的位置
+     */
+    static int skipValue(String source, int pos) {
+
+        char first = charAt(source, pos);
+
+        if (first == '"') {
+            return skipString(source, pos);
+        }
+
+        if (first != '{' && first != '[') {
+            return skipScalar(source, pos);
+        }
+
+        // 对象和数组只匹配括号
+        int depth = 0;
+        int length = source.length();
+        while (pos < length) {
+            char ch = source.charAt(pos);
+            if (ch == '"') {
+                pos = skipString(source, pos);
+                continue;
+            }
+            if (ch == '{' || ch == '[') {
+                depth++;
+            } else if (ch == '}' || ch == ']') {
+                if (--depth == 0) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+
+        throw new JsonParseException("Unterminated " + (first == '{' ? "object" : "array"));
+    }
+
+    /**
+     * 跳过一个字符串
+     *
+     * @param source
+     * @param pos    开头的引号
+     * @return 结尾引号之后的位置
+     */
+    static int skipString(String source, int pos) {
+        int length = source.length();
+        for (int i = pos + 1; i < length; i++) {
+            char ch = source.charAt(i);
+            if (ch == '\\') {
+                i++;
+            } else if (ch == '"') {
+                return i + 1;
+            }
+        }
+        throw new JsonParseException("Unterminated string");
+    }
+
+    private static int skipScalar(String source, int pos) {
+        int length = source.length();
+        int i = pos;
+        while (i < length) {
+            char ch = source.charAt(i);
+            if (ch == ',' || ch == '}' || ch == ']' || ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r') {
+                break;
+            }
+            i++;
+        }
+        if (i == pos) {
+            throw new JsonParseException("Unexpected character '" + source.charAt(pos) + "' at position " + pos);
+        }
+        return i;
+    }
+
+    /**
+     * 解码一个值，对象和数组返回延迟解析的实现
+     *
+     * @param source
+     * @param pos    值的第一个字符
+     * @return
+     */
+    static Object readValue(String source, int pos) {
+
+        char first = charAt(source, pos);
+
+        if (first == '{') {
+            return new LazyJsonObject(source, pos);
+        } else if (first == '[') {
+            return new LazyJsonArray(source, pos);
+        } else if (first == '"') {
+            return decodeString(source, pos, skipString(source, pos));
+        }
+
+        String literal = source.substring(pos, skipScalar(source, pos));
+        switch (literal) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                return readNumber(literal, pos);
+        }
+    }
+
+    private static Number readNumber(String literal, int pos) {
+        char first = literal.charAt(0);
+        if (first != '-' && (first < '0' || first > '9')) {
+            throw new JsonParseException("Unexpected literal '" + literal + "' at position " + pos);
+        }
+        try {
+            return NumberUtils.parse(literal);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException("Invalid number '" + literal + "' at position " + pos, e);
+        }
+    }
+
+    /**
+     * 解码字符串，没有转义字符时直接截取
+     *
+     * @param source
+     * @param start  开头的引号
+     * @param end    结尾引号之后的位置
+     * @return
+     */
+    static String decodeString(String source, int start, int end) {
+
+        int escape = indexOfEscape(source, start + 1, end - 1);
+        if (escape < 0) {
+            return source.substring(start + 1, end - 1);
+        }
+
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(source, start + 1, escape);
+
+        for (int i = escape; i < end - 1; i++) {
+            char ch = source.charAt(i);
+            if (ch != '\\') {
+                builder.append(ch);
+                continue;
+            }
+            char next = source.charAt(++i);
+            switch (next) {
+                case '"', '\\', '/' -> builder.append(next);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    builder.append(readUnicodeEscape(source, i + 1, end - 1));
+                    i += 4;
+                }
+                default -> throw new JsonParseException("Invalid escape character: \\" + next);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 在指定范围内查找反斜杠
+     *
+     * @return 找不到时返回-1
+     */
+    private static int indexOfEscape(String source, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\\') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static char readUnicodeEscape(String source, int pos, int end) {
+        if (pos + 4 > end) {
+            throw new JsonParseException("Invalid unicode escape");
+        }
+        int value = 0;
+        for (int i = pos; i < pos + 4; i++) {
+            int digit = Character.digit(source.charAt(i), 16);
+            if (digit < 0) {
+                throw new JsonParseException("Invalid unicode escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * 比较源字符串中的key与给定的key，key中没有转义字符时不创建字符串
+     *
+     * @param source
+     * @param start  开头的引号
+     * @param end    结尾引号之后的位置
+     * @param key
+     * @return
+     */
+    static boolean keyEquals(String source, int start, int end, String key) {
+        int length = end - start - 2;
+        if (indexOfEscape(source, start + 1, end - 1) < 0) {
+            return length == key.length() && source.regionMatches(start + 1, key, 0, length);
+        }
+        return key.equals(decodeString(source, start, end));
+    }
+
+    /**
+     * 跳过空白后期望出现指定的字符
+     *
+     * @return 该字符之后的位置
+     */
+    static int expect(String source, int pos, char expected) {
+        pos = skipWhitespace(source, pos);
+        if (charAt(source, pos) != expected) {
+            throw new JsonParseException("Expected '" + expected + "' at position " + pos);
+        }
+        return pos + 1;
+    }
+
+    static char charAt(String source, int pos) {
+        if (pos >= source.length()) {
+            throw new JsonParseException("Unexpected end of json");
+        }
+        return source.charAt(pos);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.study.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 内存映射文件读取器，按窗口映射文件并直接从映射区解码UTF-8，文件内容不复制到堆上。
+ * 单个 MappedByteBuffer 最大为2GB，更大的文件在读完一个窗口后从未解码的位置重新映射下一个窗口
+ **/
+public class MappedFileReader extends Utf8Reader {
+
+    /**
+     * 默认映射窗口大小
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+
+    /**
+     * 读取区域在文件中的结束位置
+     */
+    private final long end;
+
+    /**
+     * 映射窗口大小
+     */
+    private final int windowSize;
+
+    /**
+     * 当前窗口在文件中的起始位置
+     */
+    private long windowStart;
+
+    public MappedFileReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileReader(Path path, int windowSize) throws IOException {
+        this(path, 0, Long.MAX_VALUE, windowSize);
+    }
+
+    /**
+     * 只读取文件中的一段区域
+     *
+     * @param path
+     * @param position   区域起始位置
+     * @param size       区域大小，超出文件末尾的部分忽略
+     * @param windowSize 映射窗口大小
+     * @throws IOException
+     */
+    public MappedFileReader(Path path, long position, long size, int windowSize) throws IOException {
+
+        if (windowSize < 4) {
+            // 窗口至少要能容纳一个完整的UTF-8序列
+            throw new IllegalArgumentException("windowSize is invalid");
+        }
+
+        if (position < 0 || size < 0) {
+            throw new IllegalArgumentException("position or size is invalid");
+        }
+
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        long fileSize = channel.size();
+        this.end = size > fileSize - position ? fileSize : position + size;
+        this.windowSize = windowSize;
+        this.windowStart = position;
+    }
+
+    /**
+     * 映射下一个窗口，当前窗口中未解码的字节会包含在新窗口的开头
+     *
+     * @return 是否映射到了新的字节
+     * @throws IOException
+     */
+    @Override
+    protected boolean refill() throws IOException {
+
+        long start = windowStart + bytes.position();
+        long windowEnd = Math.min(end, start + windowSize);
+
+        if (windowEnd <= windowStart + bytes.limit()) {
+            // 已经映射到区域末尾
+            return false;
+        }
+
+        bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, windowEnd - start);
+        windowStart = start;
+
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 映射区在不再被引用后由GC释放
+        bytes = ByteBuffer.allocate(0);
+        channel.close();
+    }
+
+}
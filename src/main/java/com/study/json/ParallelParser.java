@@ -0,0 +1,275 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 并行解析单个大数组。
+ * 先把输入平均切成若干块，并行统计每块在“块开头位于字符串外/字符串内”两种假设下的结束状态和嵌套深度变化，
+ * 顺序串联后得到每块开头真实的状态；再并行找出深度为1的逗号，即数组元素之间的分隔位置；
+ * 最后按分隔位置把元素分组，每组交给 {@link StructuralParser} 解析，按顺序拼接为一个 {@link JsonArray}。
+ * 顶层不是数组或输入较小时按顺序解析
+ **/
+final class ParallelParser {
+
+    /**
+     * 小于该大小的输入按顺序解析
+     */
+    private static final int MIN_PARALLEL_SIZE = 1 << 20;
+
+    /**
+     * 单个分块的最小字节数
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private final byte[] bytes;
+
+    private final ForkJoinPool pool;
+
+    ParallelParser(byte[] bytes, ForkJoinPool pool) {
+        this.bytes = bytes;
+        this.pool = pool;
+    }
+
+    Object parse() {
+
+        int open = skipWhitespace(0);
+        if (bytes.length < MIN_PARALLEL_SIZE || pool.getParallelism() < 2 || open >= bytes.length || bytes[open] != '[') {
+            return new StructuralParser(bytes).parse();
+        }
+
+        // 分块数多于线程数，让先完成的线程可以继续处理剩余的分块
+        int[] bounds = split(open + 1, Math.max(MIN_CHUNK_SIZE, bytes.length / (pool.getParallelism() * 4)));
+        int chunks = bounds.length - 1;
+
+        // 第一遍：两种假设下每块的结束状态
+        List<ForkJoinTask<ChunkState[]>> summaries = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            summaries.add(pool.submit(() -> new ChunkState[]{scan(from, to, false), scan(from, to, true)}));
+        }
+
+        // 串联得到每块开头的真实状态，数组的'['之后深度为1
+        boolean[] startInString = new boolean[chunks];
+        int[] startDepth = new int[chunks];
+        boolean inString = false;
+        int depth = 1;
+        for (int i = 0; i < chunks; i++) {
+            startInString[i] = inString;
+            startDepth[i] = depth;
+            ChunkState state = summaries.get(i).join()[inString ? 1 : 0];
+            if (depth + state.minDepth < 0) {
+                throw new JsonParseException("Unexpected closing bracket");
+            }
+            inString = state.inString;
+            depth += state.depth;
+        }
+        if (inString) {
+            throw new JsonParseException("Unterminated string");
+        }
+        if (depth != 0) {
+            throw new JsonParseException("Unterminated array");
+        }
+
+        // 第二遍：深度为1的逗号和数组的结束位置
+        List<ForkJoinTask<int[]>> separators = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            boolean chunkInString = startInString[i];
+            int chunkDepth = startDepth[i];
+            separators.add(pool.submit(() -> separators(from, to, chunkInString, chunkDepth)));
+        }
+
+        int[] positions = new int[16];
+        int count = 0;
+        for (ForkJoinTask<int[]> task : separators) {
+            int[] found = task.join();
+            int n = found[0];
+            if (count + n > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(count + n, positions.length * 2));
+            }
+            System.arraycopy(found, 1, positions, count, n);
+            count += n;
+        }
+
+        // 最后一个位置是数组的结束，之后只能是空白
+        int close = positions[count - 1];
+        if (bytes[close] != ']') {
+            throw new JsonParseException("Mismatched closing bracket at position " + close);
+        }
+        if (skipWhitespace(close + 1) < bytes.length) {
+            throw new JsonParseException("Extra data after JSON value at position " + (close + 1));
+        }
+        if (count == 1 && skipWhitespace(open + 1) == close) {
+            return new JsonArray();
+        }
+
+        return parseElements(open, positions, count);
+    }
+
+    /**
+     * 按分隔位置把元素分组并行解析，按顺序拼接
+     */
+    private JsonArray parseElements(int open, int[] positions, int count) {
+
+        int groupSize = Math.max(MIN_CHUNK_SIZE, bytes.length / (pool.getParallelism() * 4));
+
+        List<ForkJoinTask<JsonArray>> groups = new ArrayList<>();
+        int from = open + 1;
+        int last = open;
+        for (int i = 0; i < count; i++) {
+            int separator = positions[i];
+            if (separator - last >= groupSize || i == count - 1) {
+                int start = from;
+                groups.add(pool.submit(() -> {
+                    JsonArray segment = new JsonArray();
+                    new StructuralParser(bytes, start, separator).parseElements(segment);
+                    return segment;
+                }));
+                from = separator + 1;
+                last = separator;
+            }
+        }
+
+        JsonArray result = new JsonArray();
+        for (ForkJoinTask<JsonArray> group : groups) {
+            result.addAll(group.join());
+        }
+        return result;
+    }
+
+    /**
+     * 平均切分，分块的开头不能紧跟在反斜杠之后，保证每块的第一个字节都不是被转义的字符
+     *
+     * @return 各分块的边界，首尾分别为from和输入的结尾
+     */
+    private int[] split(int from, int chunkSize) {
+
+        int[] bounds = new int[bytes.length / chunkSize + 2];
+        int n = 0;
+        bounds[n++] = from;
+
+        int next = from + chunkSize;
+        while (next < bytes.length) {
+            while (next < bytes.length && bytes[next - 1] == '\\') {
+                next++;
+            }
+            if (next >= bytes.length) {
+                break;
+            }
+            bounds[n++] = next;
+            next += chunkSize;
+        }
+        bounds[n++] = bytes.length;
+
+        return Arrays.copyOf(bounds, n);
+    }
+
+    /**
+     * 统计一块的结束状态
+     *
+     * @param inString 块开头是否位于字符串内
+     */
+    private ChunkState scan(int from, int to, boolean inString) {
+
+        boolean escaped = false;
+        int depth = 0;
+        int minDepth = 0;
+
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                minDepth = Math.min(minDepth, depth);
+            }
+        }
+
+        return new ChunkState(inString, depth, minDepth);
+    }
+
+    /**
+     * 查找一块中深度为1的逗号和深度回到0的位置
+     *
+     * @return 第一个元素为找到的数量，之后为各个位置
+     */
+    private int[] separators(int from, int to, boolean inString, int depth) {
+
+        int[] found = new int[16];
+        int n = 0;
+        boolean escaped = false;
+
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            boolean separator = false;
+            if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                separator = --depth == 0;
+            } else if (b == ',') {
+                separator = depth == 1;
+            }
+
+            if (separator) {
+                if (++n == found.length) {
+                    found = Arrays.copyOf(found, found.length * 2);
+                }
+                found[n] = i;
+            }
+        }
+
+        found[0] = n;
+        return found;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < bytes.length && (bytes[pos] == ' ' || bytes[pos] == '\n' || bytes[pos] == '\r' || bytes[pos] == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * 一块结束时的状态
+     *
+     * @param inString 是否位于字符串内
+     * @param depth    嵌套深度的变化
+     * @param minDepth 块内相对深度的最小值
+     */
+    private record ChunkState(boolean inString, int depth, int minDepth) {
+    }
+
+}
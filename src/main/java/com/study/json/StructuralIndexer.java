@@ -0,0 +1,203 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 结构索引的第一阶段：按64字节一块扫描UTF-8字节，用位掩码找出字符串之外的 {}[]:, 和所有未转义的引号，
+ * 按顺序记录它们的位置。每8个字节作为一个long一次比较（SWAR），字符串范围由引号掩码的前缀异或得到，整个过程不逐字节分支。
+ * 标量（数字、true、false、null）不记录，由第二阶段在前后两个结构字符之间读取
+ **/
+final class StructuralIndexer {
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int BLOCK = 64;
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long LOW_SEVEN = 0x7F7F7F7F7F7F7F7FL;
+
+    private final byte[] bytes;
+
+    private final int from;
+
+    private final int to;
+
+    /**
+     * 不足一块的结尾部分补空格后在这里扫描
+     */
+    private final byte[] tail = new byte[BLOCK];
+
+    private int[] positions;
+
+    private int count;
+
+    /**
+     * 上一块是否以字符串内部结束，是时为全1
+     */
+    private long inStringCarry;
+
+    /**
+     * 上一块最后一个字节是否为未被转义的反斜杠
+     */
+    private long escapeCarry;
+
+    /**
+     * @param bytes
+     * @param from  起始位置（含）
+     * @param to    结束位置（不含）
+     */
+    StructuralIndexer(byte[] bytes, int from, int to) {
+        this.bytes = bytes;
+        this.from = from;
+        this.to = to;
+        // 结构字符通常占输入的1/8左右，不够时再扩容
+        this.positions = new int[Math.max(16, (to - from) >>> 3)];
+    }
+
+    /**
+     * 建立索引
+     *
+     * @return 结构字符的位置，长度为 {@link #count()}
+     */
+    int[] index() {
+
+        int block = from;
+        for (; block + BLOCK <= to; block += BLOCK) {
+            scan(bytes, block, block);
+        }
+
+        if (block < to) {
+            Arrays.fill(tail, (byte) ' ');
+            System.arraycopy(bytes, block, tail, 0, to - block);
+            scan(tail, 0, block);
+        }
+
+        if (inStringCarry != 0) {
+            throw new JsonParseException("Unterminated string");
+        }
+
+        return positions;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * 扫描一块64字节
+     *
+     * @param source
+     * @param offset 块在source中的起始位置
+     * @param base   块在输入中的起始位置
+     */
+    private void scan(byte[] source, int offset, int base) {
+
+        long quote = 0;
+        long backslash = 0;
+        long structural = 0;
+        long control = 0;
+
+        for (int i = 0; i < BLOCK; i += Long.BYTES) {
+            long word = (long) LONG.get(source, offset + i);
+            // {和[、}和]只相差0x20这一位
+            long folded = word | 0x2020202020202020L;
+            quote |= movemask(equal(word, '"')) << i;
+            backslash |= movemask(equal(word, '\\')) << i;
+            structural |= movemask(equal(folded, '{') | equal(folded, '}') | equal(word, ':') | equal(word, ',')) << i;
+            // 高3位都是0的字节小于0x20
+            control |= movemask(zeroBytes(word & 0xE0E0E0E0E0E0E0E0L)) << i;
+        }
+
+        long escaped = escaped(backslash);
+        quote &= ~escaped;
+
+        // 引号的前缀异或：从左引号（含）到右引号（不含）之间为1
+        long inString = prefixXor(quote) ^ inStringCarry;
+        inStringCarry = inString >> 63;
+
+        if ((control & inString) != 0) {
+            throw new JsonParseException("Invalid control character in string at position " + (base + Long.numberOfTrailingZeros(control & inString)));
+        }
+
+        long bits = (structural & ~inString) | quote;
+        if (bits == 0) {
+            return;
+        }
+
+        int needed = count + Long.bitCount(bits);
+        if (needed > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(needed, positions.length * 2));
+        }
+        int[] out = positions;
+        int n = count;
+        while (bits != 0) {
+            out[n++] = base + Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+        }
+        count = n;
+    }
+
+    /**
+     * 被反斜杠转义的字节，连续的反斜杠两两抵消。反斜杠很少出现，逐个处理
+     */
+    private long escaped(long backslash) {
+
+        long escaped = escapeCarry;
+        escapeCarry = 0;
+
+        while (backslash != 0) {
+            int bit = Long.numberOfTrailingZeros(backslash);
+            backslash &= backslash - 1;
+            if ((escaped & (1L << bit)) != 0) {
+                continue;
+            }
+            if (bit == BLOCK - 1) {
+                escapeCarry = 1;
+            } else {
+                escaped |= 1L << (bit + 1);
+            }
+        }
+
+        return escaped;
+    }
+
+    private static long prefixXor(long x) {
+        x ^= x << 1;
+        x ^= x << 2;
+        x ^= x << 4;
+        x ^= x << 8;
+        x ^= x << 16;
+        x ^= x << 32;
+        return x;
+    }
+
+    /**
+     * 等于指定字符的字节最高位置1，其它字节为0
+     */
+    private static long equal(long word, char ch) {
+        return zeroBytes(word ^ (ONES * ch));
+    }
+
+    /**
+     * 为0的字节最高位置1，其它字节为0，字节之间不会产生进位
+     */
+    private static long zeroBytes(long word) {
+        return ~(((word & LOW_SEVEN) + LOW_SEVEN) | word | LOW_SEVEN);
+    }
+
+    /**
+     * 将每个字节的最高位收集为8位的掩码，第i个字节对应第i位
+     */
+    private static long movemask(long highBits) {
+        return (highBits * 0x0002040810204081L) >>> 56;
+    }
+
+}
@@ -0,0 +1,530 @@
+package com.study.json;
+
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.NumberBuilder;
+import com.study.json.util.NumberUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 结构索引的第二阶段：沿着 {@link StructuralIndexer} 生成的位置构建 JsonObject / JsonArray。
+ * 字符串的两端直接来自索引，不再逐字节查找；标量位于两个结构字符之间，只需去掉两侧空白。
+ * 结构字符之间除空白外不允许出现其它内容，语法检查与 {@link JsonParser} 一致
+ **/
+final class StructuralParser {
+
+    /**
+     * 各长度序列允许的最小码点，用于识别超长编码
+     */
+    private static final int[] MIN_CODE_POINTS = {0, 0, 0x80, 0x800, 0x10000};
+
+    private final byte[] bytes;
+
+    private final int from;
+
+    /**
+     * 结束位置（不含）
+     */
+    private final int to;
+
+    private final int[] index;
+
+    private final int count;
+
+    /**
+     * 下一个要处理的索引位置
+     */
+    private int cursor;
+
+    /**
+     * 最近一个值之后的位置
+     */
+    private int valueEnd;
+
+    private final AsciiSlice slice;
+
+    private final NumberBuilder number = new NumberBuilder();
+
+    /**
+     * 解码转义字符串使用的缓冲区
+     */
+    private char[] chars = new char[64];
+
+    /**
+     * 最近一次解码的转义字符
+     */
+    private char decoded;
+
+    /**
+     * 最近一次解码的UTF-8序列长度
+     */
+    private int sequenceLength;
+
+    StructuralParser(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    StructuralParser(byte[] bytes, int from, int to) {
+        StructuralIndexer indexer = new StructuralIndexer(bytes, from, to);
+        this.bytes = bytes;
+        this.from = from;
+        this.to = to;
+        this.index = indexer.index();
+        this.count = indexer.count();
+        this.slice = new AsciiSlice(bytes);
+    }
+
+    Object parse() {
+
+        int start = skipWhitespace(from);
+        if (start >= to) {
+            throw new JsonParseException("Empty json");
+        }
+
+        Object value = readValue(start);
+
+        if (cursor < count || skipWhitespace(valueEnd) < to) {
+            throw new JsonParseException("Extra data after JSON value at position " + valueEnd);
+        }
+
+        return value;
+    }
+
+    /**
+     * 读取一个值
+     *
+     * @param pos 值的第一个字节
+     * @return
+     */
+    private Object readValue(int pos) {
+
+        byte first = bytes[pos];
+        boolean indexed = cursor < count && index[cursor] == pos;
+
+        if (indexed && first == '{') {
+            cursor++;
+            return readObject();
+        } else if (indexed && first == '[') {
+            cursor++;
+            return readArray();
+        } else if (indexed && first == '"') {
+            return readString();
+        } else if (indexed) {
+            throw unexpected(pos);
+        }
+
+        // 标量到下一个结构字符为止
+        int end = cursor < count ? index[cursor] : to;
+        valueEnd = trimWhitespace(pos, end);
+        return readScalar(pos, valueEnd);
+    }
+
+    private JsonObject readObject() {
+
+        JsonObject object = new JsonObject();
+
+        if (nextIs('}', index[cursor - 1] + 1)) {
+            cursor++;
+            valueEnd = index[cursor - 1] + 1;
+            return object;
+        }
+
+        while (true) {
+
+            if (!nextIs('"', index[cursor - 1] + 1)) {
+                throw new JsonParseException("Expected STRING at position " + nextPosition());
+            }
+            String key = readKey();
+
+            if (!nextIs(':', valueEnd)) {
+                throw new JsonParseException("Expected ':' at position " + nextPosition());
+            }
+            cursor++;
+
+            object.put(key, readValue(valueStart()));
+
+            if (nextIs(',', valueEnd)) {
+                cursor++;
+            } else if (nextIs('}', valueEnd)) {
+                cursor++;
+                valueEnd = index[cursor - 1] + 1;
+                return object;
+            } else {
+                throw new JsonParseException("Expected ',' or '}' at position " + nextPosition());
+            }
+        }
+    }
+
+    private JsonArray readArray() {
+
+        JsonArray array = new JsonArray();
+
+        if (nextIs(']', index[cursor - 1] + 1)) {
+            cursor++;
+            valueEnd = index[cursor - 1] + 1;
+            return array;
+        }
+
+        while (true) {
+
+            readElement(array, valueStart());
+
+            if (nextIs(',', valueEnd)) {
+                cursor++;
+            } else if (nextIs(']', valueEnd)) {
+                cursor++;
+                valueEnd = index[cursor - 1] + 1;
+                return array;
+            } else {
+                throw new JsonParseException("Expected ',' or ']' at position " + nextPosition());
+            }
+        }
+    }
+
+    /**
+     * 读取以逗号分隔的一组值追加到数组中，范围内不包含两侧的括号。用于并行解析大数组时解析其中的一段
+     *
+     * @param array
+     */
+    void parseElements(JsonArray array) {
+
+        int pos = skipWhitespace(from);
+        if (pos >= to) {
+            throw new JsonParseException("Unexpected end of json");
+        }
+
+        while (true) {
+
+            readElement(array, pos);
+
+            if (cursor >= count && skipWhitespace(valueEnd) >= to) {
+                return;
+            }
+            if (!nextIs(',', valueEnd)) {
+                throw new JsonParseException("Expected ',' at position " + nextPosition());
+            }
+            cursor++;
+            pos = valueStart();
+        }
+    }
+
+    private void readElement(JsonArray array, int pos) {
+        if (cursor < count && index[cursor] == pos) {
+            array.add(readValue(pos));
+        } else {
+            // 数字直接写入数组，同一种数字组成的数组不创建包装对象
+            int end = cursor < count ? index[cursor] : to;
+            valueEnd = trimWhitespace(pos, end);
+            readScalar(array, pos, valueEnd);
+        }
+    }
+
+    /**
+     * 下一个索引位置是否为指定字符，且与from之间只有空白
+     */
+    private boolean nextIs(char ch, int from) {
+        if (cursor >= count) {
+            return false;
+        }
+        int pos = index[cursor];
+        return bytes[pos] == ch && skipWhitespace(from) == pos;
+    }
+
+    /**
+     * 上一个结构字符之后第一个非空白字节
+     */
+    private int valueStart() {
+        int pos = skipWhitespace(index[cursor - 1] + 1);
+        if (pos >= to) {
+            throw new JsonParseException("Unexpected end of json");
+        }
+        return pos;
+    }
+
+    private int nextPosition() {
+        return cursor < count ? index[cursor] : to;
+    }
+
+    private String readKey() {
+        int open = index[cursor];
+        int close = index[cursor + 1];
+        String key = indexOfEscape(open + 1, close) < 0 ? SymbolTable.SHARED.internAscii(bytes, open + 1, close) : null;
+        if (key == null) {
+            return readString();
+        }
+        cursor += 2;
+        valueEnd = close + 1;
+        return key;
+    }
+
+    private String readString() {
+
+        if (cursor + 1 >= count) {
+            throw new JsonParseException("Unterminated string");
+        }
+        int open = index[cursor];
+        int close = index[cursor + 1];
+        cursor += 2;
+        valueEnd = close + 1;
+
+        if (indexOfEscape(open + 1, close) < 0) {
+            return new String(bytes, open + 1, close - open - 1, StandardCharsets.UTF_8);
+        }
+
+        return decodeEscaped(open + 1, close);
+    }
+
+    /**
+     * 解码含有转义字符的字符串，解码后的字符数不会超过字节数，直接写入复用的字符数组
+     */
+    private String decodeEscaped(int from, int to) {
+
+        if (chars.length < to - from) {
+            chars = new char[Math.max(to - from, chars.length * 2)];
+        }
+        char[] out = chars;
+        int n = 0;
+
+        int i = from;
+        while (i < to) {
+            byte b = bytes[i];
+            if (b >= 0 && b != '\\') {
+                out[n++] = (char) b;
+                i++;
+            } else if (b == '\\') {
+                i = decodeEscape(i + 1, to);
+                out[n++] = decoded;
+            } else {
+                int codePoint = decodeUtf8(i, to);
+                if (codePoint < 0) {
+                    // 非法的序列交给JDK按替换字符处理
+                    int end = i + 1;
+                    while (end < to && bytes[end] < 0) {
+                        end++;
+                    }
+                    String replaced = new String(bytes, i, end - i, StandardCharsets.UTF_8);
+                    replaced.getChars(0, replaced.length(), out, n);
+                    n += replaced.length();
+                    i = end;
+                } else {
+                    n += Character.toChars(codePoint, out, n);
+                    i += sequenceLength;
+                }
+            }
+        }
+
+        return new String(out, 0, n);
+    }
+
+    /**
+     * 解码反斜杠之后的转义字符，结果保存在 {@link #decoded}
+     *
+     * @return 转义序列之后的位置
+     */
+    private int decodeEscape(int pos, int to) {
+
+        if (pos >= to) {
+            throw new JsonParseException("Invalid escape at position " + pos);
+        }
+
+        byte next = bytes[pos];
+        switch (next) {
+            case '"', '\\', '/' -> decoded = (char) next;
+            case 'b' -> decoded = '\b';
+            case 'f' -> decoded = '\f';
+            case 'n' -> decoded = '\n';
+            case 'r' -> decoded = '\r';
+            case 't' -> decoded = '\t';
+            case 'u' -> {
+                if (pos + 5 > to) {
+                    throw new JsonParseException("Invalid unicode escape at position " + pos);
+                }
+                int value = 0;
+                for (int i = pos + 1; i < pos + 5; i++) {
+                    int digit = Character.digit(bytes[i], 16);
+                    if (digit < 0) {
+                        throw new JsonParseException("Invalid unicode escape at position " + pos);
+                    }
+                    value = (value << 4) | digit;
+                }
+                decoded = (char) value;
+                return pos + 5;
+            }
+            default -> throw new JsonParseException("Invalid escape character: \\" + (char) (next & 0xFF));
+        }
+        return pos + 1;
+    }
+
+    /**
+     * 解码一个UTF-8多字节序列，长度保存在 {@link #sequenceLength}
+     *
+     * @return 码点，序列非法时返回-1
+     */
+    private int decodeUtf8(int pos, int to) {
+
+        int lead = bytes[pos] & 0xFF;
+        int length = lead >= 0xF8 ? 0 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 0;
+        if (length == 0 || pos + length > to) {
+            return -1;
+        }
+
+        int codePoint = lead & (0x7F >> length);
+        for (int i = 1; i < length; i++) {
+            int b = bytes[pos + i];
+            if ((b & 0xC0) != 0x80) {
+                return -1;
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+
+        // 超长编码、代理区和超出范围的码点都是非法的
+        if (codePoint < MIN_CODE_POINTS[length] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return -1;
+        }
+
+        sequenceLength = length;
+        return codePoint;
+    }
+
+    private int indexOfEscape(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\\') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object readScalar(int start, int end) {
+
+        if (end == start) {
+            throw unexpected(start);
+        }
+
+        switch (bytes[start]) {
+            case 't':
+                expectLiteral("true", start, end);
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("false", start, end);
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("null", start, end);
+                return null;
+            default:
+                return scanNumber(start, end).toNumber(slice);
+        }
+    }
+
+    private void readScalar(JsonArray array, int start, int end) {
+
+        byte first = bytes[start];
+        if (end == start || first != '-' && (first < '0' || first > '9')) {
+            array.add(readScalar(start, end));
+            return;
+        }
+
+        NumberBuilder builder = scanNumber(start, end);
+        if (builder.isLong()) {
+            array.addLong(builder.longValue(slice));
+        } else if (!builder.isIntegral()) {
+            double value = builder.doubleValue(slice);
+            if (Double.isFinite(value)) {
+                array.addDouble(value);
+            } else {
+                // 超出double范围，使用BigDecimal
+                array.add(builder.toNumber(slice));
+            }
+        } else {
+            // 超出long范围的整数
+            array.add(builder.toNumber(slice));
+        }
+    }
+
+    private NumberBuilder scanNumber(int start, int end) {
+        slice.set(start, end);
+        try {
+            return NumberUtils.scan(slice, number);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException("Invalid number '" + slice + "' at position " + start, e);
+        }
+    }
+
+    private void expectLiteral(String literal, int start, int end) {
+        boolean matched = end - start == literal.length();
+        for (int i = 0; matched && i < literal.length(); i++) {
+            matched = bytes[start + i] == literal.charAt(i);
+        }
+        if (!matched) {
+            throw new JsonParseException("Unexpected literal '" + new String(bytes, start, end - start, StandardCharsets.UTF_8) + "' at position " + start);
+        }
+    }
+
+    private JsonParseException unexpected(int pos) {
+        return new JsonParseException("Unexpected character '" + (char) (bytes[pos] & 0xFF) + "' at position " + pos);
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < to && isWhitespace(bytes[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int trimWhitespace(int start, int end) {
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * 字节数组中一段ASCII字符的视图，扫描数字时复用，不创建字符串
+     */
+    private static final class AsciiSlice implements CharSequence {
+
+        private final byte[] bytes;
+
+        private int start;
+
+        private int end;
+
+        private AsciiSlice(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private void set(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int i) {
+            return (char) (bytes[start + i] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().subSequence(from, to);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.study.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象key的规范化表，相同内容的key共用一个String实例。
+ * 采用固定大小的直接映射表，冲突时新key覆盖旧key，占用的内存有上限；
+ * 表中只保存不可变的String且命中时总会比较内容，多线程共享时的竞争只会导致少量未命中
+ **/
+final class SymbolTable {
+
+    /**
+     * 所有解析器共享的表
+     */
+    static final SymbolTable SHARED = new SymbolTable(4096, 64);
+
+    private final String[] symbols;
+
+    private final int mask;
+
+    /**
+     * 超过该长度的key不做规范化
+     */
+    private final int maxLength;
+
+    SymbolTable(int capacity, int maxLength) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.symbols = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 返回与给定内容相同的规范化字符串，不在表中时创建并放入表中
+     *
+     * @param chars
+     * @return
+     */
+    String intern(CharSequence chars) {
+
+        int length = chars.length();
+        if (length > maxLength) {
+            return chars.toString();
+        }
+
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars.charAt(i);
+        }
+
+        int slot = (h ^ (h >>> 16)) & mask;
+        String symbol = symbols[slot];
+        if (symbol != null && symbol.length() == length && symbol.contentEquals(chars)) {
+            return symbol;
+        }
+
+        symbol = chars.toString();
+        symbols[slot] = symbol;
+        return symbol;
+    }
+
+    /**
+     * 规范化字节数组中的ASCII字符串，含有非ASCII字节时返回null
+     *
+     * @param bytes
+     * @param from
+     * @param to
+     * @return
+     */
+    String internAscii(byte[] bytes, int from, int to) {
+
+        int length = to - from;
+        if (length > maxLength) {
+            return null;
+        }
+
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b < 0) {
+                return null;
+            }
+            h = 31 * h + b;
+        }
+
+        int slot = (h ^ (h >>> 16)) & mask;
+        String symbol = symbols[slot];
+        if (symbol != null && symbol.length() == length && matches(symbol, bytes, from)) {
+            return symbol;
+        }
+
+        symbol = new String(bytes, from, length, StandardCharsets.ISO_8859_1);
+        symbols[slot] = symbol;
+        return symbol;
+    }
+
+    private static boolean matches(String symbol, byte[] bytes, int from) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != bytes[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.study.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description UTF-8字节读取器，直接从字节解码到字符缓冲区，不经过Reader和CharsetDecoder。
+ * json的结构字符都是ASCII，逐字节直接转换；只有字符串内容中出现的多字节序列才需要解码。
+ * 非法的字节序列按 U+FFFD 替换，与 InputStreamReader 的默认行为一致
+ **/
+public class Utf8Reader extends CharReader {
+
+    /**
+     * 非法字节序列的替换字符
+     */
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * 8个字节的最高位，与运算为0时这8个字节都是ASCII
+     */
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    /**
+     * 各长度序列允许的最小码点，用于识别超长编码
+     */
+    private static final int[] MIN_CODE_POINTS = {0, 0, 0x80, 0x800, 0x10000};
+
+    /**
+     * 字节来源，position之后为尚未解码的字节
+     */
+    protected ByteBuffer bytes;
+
+    /**
+     * 输入流，仅基于输入流读取时存在
+     */
+    private final InputStream inputStream;
+
+    /**
+     * 输入流读取使用的字节缓冲区
+     */
+    private final byte[] streamBuffer;
+
+    public Utf8Reader(byte[] data) {
+        this(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * 从字节缓冲区的position读取到limit，不修改传入缓冲区的位置
+     *
+     * @param byteBuffer
+     */
+    public Utf8Reader(ByteBuffer byteBuffer) {
+        super(BUFFER_SIZE);
+        this.bytes = Objects.requireNonNull(byteBuffer, "byteBuffer is null").slice();
+        this.inputStream = null;
+        this.streamBuffer = null;
+    }
+
+    public Utf8Reader(InputStream inputStream) {
+        super(BUFFER_SIZE);
+        this.inputStream = Objects.requireNonNull(inputStream, "inputStream is null");
+        this.streamBuffer = new byte[BUFFER_SIZE];
+        this.bytes = ByteBuffer.wrap(streamBuffer).limit(0);
+    }
+
+    /**
+     * 供子类使用，字节由子类通过 {@link #refill()} 提供
+     */
+    protected Utf8Reader() {
+        super(BUFFER_SIZE);
+        this.inputStream = null;
+        this.streamBuffer = null;
+        this.bytes = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    protected int read(char[] out) throws IOException {
+
+        int n = 0;
+        // 预留一个位置，保证四字节序列解码出的代理对可以完整写入
+        int max = out.length - 1;
+
+        while (n < max) {
+
+            int p = bytes.position();
+            int limit = bytes.limit();
+
+            // ASCII快速路径，先每次检查8个字节的最高位，全部为0时整体复制
+            while (n + Long.BYTES <= max && p + Long.BYTES <= limit) {
+                long word = bytes.getLong(p);
+                if ((word & NON_ASCII_MASK) != 0) {
+                    break;
+                }
+                // 最高位的检查与字节序无关，复制时按位置读取
+                for (int i = 0; i < Long.BYTES; i++) {
+                    out[n++] = (char) bytes.get(p + i);
+                }
+                p += Long.BYTES;
+            }
+            while (n < max && p < limit) {
+                byte b = bytes.get(p);
+                if (b < 0) {
+                    break;
+                }
+                out[n++] = (char) b;
+                p++;
+            }
+            bytes.position(p);
+
+            if (n >= max) {
+                break;
+            }
+
+            if (p >= limit) {
+                if (!refill()) {
+                    break;
+                }
+                continue;
+            }
+
+            // 多字节序列
+            int lead = bytes.get(p) & 0xFF;
+            int length = sequenceLength(lead);
+            if (length < 0) {
+                out[n++] = REPLACEMENT;
+                bytes.position(p + 1);
+                continue;
+            }
+
+            if (p + length > limit) {
+                // 序列被截断，先尝试读取更多字节
+                if (refill()) {
+                    continue;
+                }
+                out[n++] = REPLACEMENT;
+                bytes.position(limit);
+                break;
+            }
+
+            n = decode(out, n, p, lead, length);
+        }
+
+        return n == 0 ? -1 : n;
+    }
+
+    /**
+     * 解码一个多字节序列写入字符缓冲区
+     *
+     * @return 写入后的字符数
+     */
+    private int decode(char[] out, int n, int p, int lead, int length) {
+
+        int codePoint = lead & (0xFF >> (length + 1));
+        for (int i = 1; i < length; i++) {
+            int b = bytes.get(p + i) & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                // 缺少后续字节，只跳过首字节
+                out[n++] = REPLACEMENT;
+                bytes.position(p + i);
+                return n;
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        bytes.position(p + length);
+
+        if (codePoint < MIN_CODE_POINTS[length] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            // 超长编码或代理区
+            out[n++] = REPLACEMENT;
+        } else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            out[n++] = Character.highSurrogate(codePoint);
+            out[n++] = Character.lowSurrogate(codePoint);
+        } else {
+            out[n++] = (char) codePoint;
+        }
+
+        return n;
+    }
+
+    private static int sequenceLength(int lead) {
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        } else if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return -1;
+    }
+
+    /**
+     * 读取更多字节，未解码的剩余字节保留在缓冲区开头
+     *
+     * @return 是否读取到了新的字节
+     * @throws IOException
+     */
+    protected boolean refill() throws IOException {
+
+        if (inputStream == null) {
+            return false;
+        }
+
+        bytes.compact();
+        int read = inputStream.read(streamBuffer, bytes.position(), bytes.remaining());
+        if (read > 0) {
+            bytes.position(bytes.position() + read);
+        }
+        bytes.flip();
+
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inputStream != null) {
+            inputStream.close();
+        }
+    }
+
+}
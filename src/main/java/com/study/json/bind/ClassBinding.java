@@ -0,0 +1,162 @@
+package com.study.json.bind;
+
+import com.study.json.enums.BindingBackend;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 类的绑定计划，构造器和属性在首次使用时解析并按类缓存，之后的转换不再进行反射查找
+ **/
+public class ClassBinding<T> {
+
+    private static final ClassValue<ClassBinding<?>> REFLECTION_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassBinding<?> computeValue(Class<?> type) {
+            return new ClassBinding<>(type, BindingBackend.REFLECTION);
+        }
+    };
+
+    private static final ClassValue<ClassBinding<?>> METHOD_HANDLE_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassBinding<?> computeValue(Class<?> type) {
+            return new ClassBinding<>(type, BindingBackend.METHOD_HANDLE);
+        }
+    };
+
+    private final Class<T> type;
+
+    private final BindingBackend backend;
+
+    /**
+     * 无参构造器，不存在时为null
+     */
+    private final Constructor<T> constructor;
+
+    /**
+     * 类型为 ()Object 的构造句柄，仅 METHOD_HANDLE 方式使用
+     */
+    private final MethodHandle constructorHandle;
+
+    /**
+     * 属性名到绑定信息的映射，包含父类中声明的属性
+     */
+    private final Map<String, FieldBinding> fields;
+
+    private ClassBinding(Class<T> type, BindingBackend backend) {
+
+        this.type = type;
+        this.backend = backend;
+        this.constructor = findConstructor(type);
+        this.constructorHandle = backend == BindingBackend.METHOD_HANDLE && constructor != null
+                ? constructorHandle(constructor) : null;
+
+        Map<String, FieldBinding> fields = new LinkedHashMap<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || fields.containsKey(field.getName())) {
+                    continue;
+                }
+                fields.put(field.getName(), backend == BindingBackend.METHOD_HANDLE
+                        ? new MethodHandleFieldBinding(field) : new ReflectionFieldBinding(field));
+            }
+        }
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * 获取类基于反射的绑定计划
+     *
+     * @param type
+     * @return
+     */
+    public static <T> ClassBinding<T> of(Class<T> type) {
+        return of(type, BindingBackend.REFLECTION);
+    }
+
+    /**
+     * 获取类指定访问方式的绑定计划
+     *
+     * @param type
+     * @param backend
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ClassBinding<T> of(Class<T> type, BindingBackend backend) {
+        ClassValue<ClassBinding<?>> cache = backend == BindingBackend.METHOD_HANDLE ? METHOD_HANDLE_CACHE : REFLECTION_CACHE;
+        return (ClassBinding<T>) cache.get(type);
+    }
+
+    /**
+     * 通过无参构造器创建实例
+     *
+     * @return
+     */
+    public T newInstance() throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+
+        if (constructorHandle == null) {
+            return constructor.newInstance();
+        }
+
+        try {
+            return type.cast((Object) constructorHandle.invokeExact());
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * 根据属性名获取绑定信息，不存在时返回null
+     *
+     * @param name
+     * @return
+     */
+    public FieldBinding field(String name) {
+        return fields.get(name);
+    }
+
+    public Collection<FieldBinding> fields() {
+        return fields.values();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public BindingBackend getBackend() {
+        return backend;
+    }
+
+    private static MethodHandle constructorHandle(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not access constructor " + constructor, e);
+        }
+    }
+
+    private static <T> Constructor<T> findConstructor(Class<T> type) {
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
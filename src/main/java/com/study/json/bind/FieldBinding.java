@@ -0,0 +1,168 @@
+package com.study.json.bind;
+
+import com.study.json.util.DateUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 单个属性的绑定信息，属性访问权限和日期类型在创建时一次性解析
+ **/
+public abstract class FieldBinding {
+
+    /**
+     * 目标属性
+     */
+    protected final Field field;
+
+    /**
+     * 属性类型
+     */
+    protected final Class<?> type;
+
+    /**
+     * 属性的泛型类型，用于确定集合元素类型
+     */
+    private final Type genericType;
+
+    /**
+     * 属性对应的日期类型，非日期属性为null
+     */
+    private final Class<?> dateType;
+
+    FieldBinding(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+        this.type = field.getType();
+        this.genericType = field.getGenericType();
+        this.dateType = DateUtils.getDateType(type);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    /**
+     * 属性对应的日期类型，非日期属性返回null
+     *
+     * @return
+     */
+    public Class<?> getDateType() {
+        return dateType;
+    }
+
+    /**
+     * 将json中的值写入目标对象的属性，日期字符串转换为属性的日期类型，
+     * 数字写入基本类型属性时不经过包装类型的拆箱转换
+     *
+     * @param target
+     * @param value
+     * @throws IllegalAccessException
+     */
+    public void set(Object target, Object value) throws IllegalAccessException {
+
+        if (dateType != null) {
+            setObject(target, DateUtils.convert(dateType, value));
+        } else if (value instanceof Number number && type.isPrimitive()) {
+            setNumber(target, number);
+        } else {
+            setObject(target, value);
+        }
+    }
+
+    /**
+     * 将数字写入基本类型属性，整数属性不接受超出范围或带小数的值
+     *
+     * @param target
+     * @param number
+     * @throws IllegalAccessException
+     */
+    private void setNumber(Object target, Number number) throws IllegalAccessException {
+
+        // 只有能用long精确表示的整数才写入整数属性，BigDecimal和超出long范围的BigInteger都不接受
+        boolean integral = number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+                || number instanceof BigInteger big && big.bitLength() < 64;
+
+        if (type == int.class && integral && number.longValue() == number.intValue()) {
+            setInt(target, number.intValue());
+        } else if (type == long.class && integral) {
+            setLong(target, number.longValue());
+        } else if (type == double.class) {
+            setDouble(target, number.doubleValue());
+        } else if (type == float.class) {
+            setObject(target, number.floatValue());
+        } else if (type == short.class && integral && number.longValue() == number.shortValue()) {
+            setObject(target, number.shortValue());
+        } else if (type == byte.class && integral && number.longValue() == number.byteValue()) {
+            setObject(target, number.byteValue());
+        } else {
+            throw new IllegalArgumentException("Can not set " + type + " field " + field.getName() + " to " + number);
+        }
+    }
+
+    /**
+     * 写入引用类型的值
+     */
+    public abstract void setObject(Object target, Object value) throws IllegalAccessException;
+
+    /**
+     * 写入int类型的值
+     */
+    public abstract void setInt(Object target, int value) throws IllegalAccessException;
+
+    /**
+     * 写入long类型的值
+     */
+    public abstract void setLong(Object target, long value) throws IllegalAccessException;
+
+    /**
+     * 写入double类型的值
+     */
+    public abstract void setDouble(Object target, double value) throws IllegalAccessException;
+
+    /**
+     * 写入boolean类型的值
+     */
+    public abstract void setBoolean(Object target, boolean value) throws IllegalAccessException;
+
+    /**
+     * 读取引用类型的值，基本类型属性返回包装对象
+     */
+    public abstract Object get(Object target) throws IllegalAccessException;
+
+    /**
+     * 读取int类型的值
+     */
+    public abstract int getInt(Object target) throws IllegalAccessException;
+
+    /**
+     * 读取long类型的值
+     */
+    public abstract long getLong(Object target) throws IllegalAccessException;
+
+    /**
+     * 读取double类型的值
+     */
+    public abstract double getDouble(Object target) throws IllegalAccessException;
+
+    /**
+     * 读取boolean类型的值
+     */
+    public abstract boolean getBoolean(Object target) throws IllegalAccessException;
+
+}
@@ -0,0 +1,187 @@
+package com.study.json.bind;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 基于MethodHandle的属性绑定，基本类型属性通过精确类型的句柄直接写入
+ **/
+class MethodHandleFieldBinding extends FieldBinding {
+
+    /**
+     * 类型为 (Object, Object)void 的写入句柄
+     */
+    private final MethodHandle objectSetter;
+
+    /**
+     * 类型为 (Object, 属性类型)void 的写入句柄
+     */
+    private final MethodHandle exactSetter;
+
+    /**
+     * 类型为 (Object)Object 的读取句柄
+     */
+    private final MethodHandle objectGetter;
+
+    /**
+     * 类型为 (Object)属性类型 的读取句柄
+     */
+    private final MethodHandle exactGetter;
+
+    MethodHandleFieldBinding(Field field) {
+        super(field);
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            this.exactSetter = setter.asType(MethodType.methodType(void.class, Object.class, type));
+            this.objectSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            this.exactGetter = getter.asType(MethodType.methodType(type, Object.class));
+            this.objectGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not access field " + field, e);
+        }
+    }
+
+    @Override
+    public void setObject(Object target, Object value) {
+        try {
+            objectSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws IllegalAccessException {
+        if (type != int.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            exactSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws IllegalAccessException {
+        if (type != long.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            exactSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws IllegalAccessException {
+        if (type != double.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            exactSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws IllegalAccessException {
+        if (type != boolean.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            exactSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return (Object) objectGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object target) {
+        if (type != int.class) {
+            return ((Number) get(target)).intValue();
+        }
+        try {
+            return (int) exactGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object target) {
+        if (type != long.class) {
+            return ((Number) get(target)).longValue();
+        }
+        try {
+            return (long) exactGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        if (type != double.class) {
+            return ((Number) get(target)).doubleValue();
+        }
+        try {
+            return (double) exactGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object target) {
+        if (type != boolean.class) {
+            return (Boolean) get(target);
+        }
+        try {
+            return (boolean) exactGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
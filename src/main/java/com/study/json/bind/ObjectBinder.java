@@ -0,0 +1,355 @@
+package com.study.json.bind;
+
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import com.study.json.JsonParser;
+import com.study.json.JsonReader;
+import com.study.json.enums.BindingBackend;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.DateUtils;
+
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象绑定器，直接从Token流读取数据写入目标对象，不构建中间的JsonObject/JsonArray树。
+ * 支持嵌套对象、集合、数组、Map、枚举以及 {@link DateUtils} 支持的日期类型
+ **/
+public class ObjectBinder {
+
+    private final BindingBackend backend;
+
+    public ObjectBinder() {
+        this(BindingBackend.REFLECTION);
+    }
+
+    public ObjectBinder(BindingBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * 从读取器的当前Token开始读取一个值并转换为指定类型，尚未读取任何Token时先前进到第一个Token。
+     * 读取完成后读取器停在该值之后的Token上
+     *
+     * @param reader
+     * @param type
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(JsonReader reader, Class<T> type) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        if (reader.currentToken() == null) {
+            reader.nextToken();
+        }
+
+        return (T) readValue(reader, type);
+    }
+
+    /**
+     * 按照目标类型读取一个值
+     */
+    private Object readValue(JsonReader reader, Type type) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        TokenType token = reader.currentToken();
+        Class<?> raw = rawType(type);
+
+        if (token == TokenType.NULL) {
+            reader.nextToken();
+            return null;
+        }
+
+        if (raw == Object.class || raw == Number.class || raw == JsonObject.class || raw == JsonArray.class) {
+            // 未知类型保留原有的树结构
+            return raw.cast(new JsonParser(reader).parseValue());
+        }
+
+        if (raw == String.class) {
+            return readString(reader, raw);
+        }
+
+        if (raw.isPrimitive() || Number.class.isAssignableFrom(raw) || raw == Boolean.class || raw == Character.class) {
+            return readScalar(reader, raw);
+        }
+
+        Class<?> dateType = DateUtils.getDateType(raw);
+        if (dateType != null) {
+            return DateUtils.convert(dateType, readString(reader, raw));
+        }
+
+        if (raw.isEnum()) {
+            return enumValue(raw, readString(reader, raw));
+        }
+
+        if (raw.isArray()) {
+            return readArray(reader, raw.getComponentType(), genericComponentType(type));
+        }
+
+        if (Collection.class.isAssignableFrom(raw)) {
+            Collection<Object> collection = newCollection(raw);
+            readElements(reader, typeArgument(type, 0), collection);
+            return collection;
+        }
+
+        if (Map.class.isAssignableFrom(raw)) {
+            return readMap(reader, raw, typeArgument(type, 1));
+        }
+
+        return readObject(reader, raw);
+    }
+
+    /**
+     * 读取对象，每读到一个key就直接写入对应的属性
+     */
+    private Object readObject(JsonReader reader, Class<?> type) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        ClassBinding<?> binding = ClassBinding.of(type, backend);
+        Object obj = binding.newInstance();
+
+        consume(reader, TokenType.BEGIN_OBJECT);
+
+        while (reader.currentToken() != TokenType.END_OBJECT) {
+
+            expect(reader, TokenType.STRING);
+            String key = reader.currentKey();
+            FieldBinding field = binding.field(key);
+            if (field == null) {
+                throw new NoSuchFieldException(key);
+            }
+            reader.nextToken();
+
+            consume(reader, TokenType.SEP_COLON);
+
+            readField(reader, obj, field);
+
+            if (reader.currentToken() != TokenType.END_OBJECT) {
+                consumeSeparator(reader, TokenType.END_OBJECT);
+            }
+        }
+
+        consume(reader, TokenType.END_OBJECT);
+
+        return obj;
+    }
+
+    /**
+     * 读取一个属性值，基本类型直接从字符内容解析后写入，不创建包装对象
+     */
+    private void readField(JsonReader reader, Object obj, FieldBinding field) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        Class<?> type = field.getType();
+        TokenType token = reader.currentToken();
+
+        if (token == TokenType.NUMBER && (type == int.class || type == long.class || type == double.class)) {
+            if (type == int.class) {
+                field.setInt(obj, reader.intValue());
+            } else if (type == long.class) {
+                field.setLong(obj, reader.longValue());
+            } else {
+                field.setDouble(obj, reader.doubleValue());
+            }
+            reader.nextToken();
+        } else if (token == TokenType.BOOLEAN && type == boolean.class) {
+            field.setBoolean(obj, reader.booleanValue());
+            reader.nextToken();
+        } else if (field.getDateType() != null && token == TokenType.STRING) {
+            // 日期字符串交给属性绑定转换
+            field.set(obj, reader.currentValue());
+            reader.nextToken();
+        } else {
+            field.set(obj, readValue(reader, field.getGenericType()));
+        }
+    }
+
+    /**
+     * 读取数字、布尔和字符等标量值
+     */
+    private Object readScalar(JsonReader reader, Class<?> type) {
+
+        TokenType token = reader.currentToken();
+
+        if (token == TokenType.BOOLEAN && (type == boolean.class || type == Boolean.class)) {
+            boolean value = reader.booleanValue();
+            reader.nextToken();
+            return value;
+        }
+
+        if ((type == char.class || type == Character.class) && token == TokenType.STRING && reader.currentChars().length() == 1) {
+            char value = reader.currentChars().charAt(0);
+            reader.nextToken();
+            return value;
+        }
+
+        if (token != TokenType.NUMBER) {
+            throw new IllegalArgumentException("Can not convert " + token + " to " + type.getName());
+        }
+
+        if (type == int.class || type == Integer.class) {
+            int value = reader.intValue();
+            reader.nextToken();
+            return value;
+        } else if (type == long.class || type == Long.class) {
+            long value = reader.longValue();
+            reader.nextToken();
+            return value;
+        } else if (type == double.class || type == Double.class) {
+            double value = reader.doubleValue();
+            reader.nextToken();
+            return value;
+        }
+
+        String value = reader.currentValue();
+        reader.nextToken();
+
+        if (type == float.class || type == Float.class) {
+            return Float.parseFloat(value);
+        } else if (type == short.class || type == Short.class) {
+            return Short.parseShort(value);
+        } else if (type == byte.class || type == Byte.class) {
+            return Byte.parseByte(value);
+        } else if (type == BigInteger.class) {
+            return new BigInteger(value);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        }
+
+        throw new IllegalArgumentException("Can not convert NUMBER to " + type.getName());
+    }
+
+    private String readString(JsonReader reader, Class<?> type) {
+        if (reader.currentToken() != TokenType.STRING) {
+            throw new IllegalArgumentException("Can not convert " + reader.currentToken() + " to " + type.getName());
+        }
+        String value = reader.currentValue();
+        reader.nextToken();
+        return value;
+    }
+
+    private Object readArray(JsonReader reader, Class<?> componentType, Type genericComponentType) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        List<Object> elements = new ArrayList<>();
+        readElements(reader, genericComponentType, elements);
+
+        Object array = Array.newInstance(componentType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private void readElements(JsonReader reader, Type elementType, Collection<Object> output) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        consume(reader, TokenType.BEGIN_ARRAY);
+
+        while (reader.currentToken() != TokenType.END_ARRAY) {
+            output.add(readValue(reader, elementType));
+            if (reader.currentToken() != TokenType.END_ARRAY) {
+                consumeSeparator(reader, TokenType.END_ARRAY);
+            }
+        }
+
+        consume(reader, TokenType.END_ARRAY);
+    }
+
+    private Map<String, Object> readMap(JsonReader reader, Class<?> type, Type valueType) throws NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+
+        Map<String, Object> map = SortedMap.class.isAssignableFrom(type) ? new TreeMap<>() : new LinkedHashMap<>();
+
+        consume(reader, TokenType.BEGIN_OBJECT);
+
+        while (reader.currentToken() != TokenType.END_OBJECT) {
+            String key = readString(reader, String.class);
+            consume(reader, TokenType.SEP_COLON);
+            map.put(key, readValue(reader, valueType));
+            if (reader.currentToken() != TokenType.END_OBJECT) {
+                consumeSeparator(reader, TokenType.END_OBJECT);
+            }
+        }
+
+        consume(reader, TokenType.END_OBJECT);
+
+        return map;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> newCollection(Class<?> type) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            // 具体的集合类型直接调用公开的无参构造器，不为JDK类建立字段绑定
+            return (Collection<Object>) type.getDeclaredConstructor().newInstance();
+        }
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        }
+        if (type.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>();
+        }
+        if (type.isAssignableFrom(ArrayDeque.class)) {
+            return new ArrayDeque<>();
+        }
+
+        throw new IllegalArgumentException("Unsupported collection type: " + type.getName());
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        } else if (type instanceof GenericArrayType array) {
+            return Array.newInstance(rawType(array.getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        // 类型变量等无法确定具体类型的情况
+        return Object.class;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments().length > index) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        return Object.class;
+    }
+
+    private static Type genericComponentType(Type type) {
+        if (type instanceof GenericArrayType array) {
+            return array.getGenericComponentType();
+        }
+        return ((Class<?>) type).getComponentType();
+    }
+
+    private static void expect(JsonReader reader, TokenType expectedType) {
+        if (reader.currentToken() != expectedType) {
+            throw new JsonParseException("Expected " + expectedType + " but found " + reader.currentToken());
+        }
+    }
+
+    /**
+     * 消费元素之间的','，','之后不能直接是结束括号
+     */
+    private static void consumeSeparator(JsonReader reader, TokenType end) {
+        consume(reader, TokenType.SEP_COMMA);
+        if (reader.currentToken() == end) {
+            throw new JsonParseException("Unexpected " + end + " after ','");
+        }
+    }
+
+    private static void consume(JsonReader reader, TokenType expectedType) {
+        expect(reader, expectedType);
+        reader.nextToken();
+    }
+
+}
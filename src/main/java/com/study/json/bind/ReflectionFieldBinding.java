@@ -0,0 +1,66 @@
+package com.study.json.bind;
+
+import java.lang.reflect.Field;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 基于反射的属性绑定
+ **/
+class ReflectionFieldBinding extends FieldBinding {
+
+    ReflectionFieldBinding(Field field) {
+        super(field);
+    }
+
+    @Override
+    public void setObject(Object target, Object value) throws IllegalAccessException {
+        field.set(target, value);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws IllegalAccessException {
+        field.setInt(target, value);
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws IllegalAccessException {
+        field.setLong(target, value);
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws IllegalAccessException {
+        field.setDouble(target, value);
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws IllegalAccessException {
+        field.setBoolean(target, value);
+    }
+
+    @Override
+    public Object get(Object target) throws IllegalAccessException {
+        return field.get(target);
+    }
+
+    @Override
+    public int getInt(Object target) throws IllegalAccessException {
+        return field.getInt(target);
+    }
+
+    @Override
+    public long getLong(Object target) throws IllegalAccessException {
+        return field.getLong(target);
+    }
+
+    @Override
+    public double getDouble(Object target) throws IllegalAccessException {
+        return field.getDouble(target);
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws IllegalAccessException {
+        return field.getBoolean(target);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.study.json.enums;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 对象绑定时访问属性和构造器的方式
+ **/
+public enum BindingBackend {
+
+    /**
+     * 通过 java.lang.reflect.Field 和 Constructor 反射访问
+     */
+    REFLECTION,
+
+    /**
+     * 通过预先生成的 MethodHandle 访问，基本类型属性直接写入，不经过包装类型
+     */
+    METHOD_HANDLE
+
+}
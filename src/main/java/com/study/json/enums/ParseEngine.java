@@ -0,0 +1,21 @@
+package com.study.json.enums;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 解析引擎。引擎只影响性能，接受和拒绝的输入相同，结果一致
+ **/
+public enum ParseEngine {
+
+    /**
+     * 基于 JsonTokenizer 逐字符读取，支持流式输入，内存占用与输入大小无关
+     */
+    STREAMING,
+
+    /**
+     * 两阶段解析：先按64字节一块用位运算建立结构字符的索引，再沿索引构建对象。
+     * 需要完整的输入在内存中，适合较大的字节数组
+     */
+    STRUCTURAL_INDEX
+
+}
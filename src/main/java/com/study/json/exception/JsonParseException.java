@@ -15,4 +15,17 @@ public class JsonParseException extends RuntimeException {
         super(message);
     }
 
+    public JsonParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * 包装另一个异常并沿用它的信息，ForkJoinTask在其它线程中重新抛出异常时使用该构造器
+     *
+     * @param cause
+     */
+    public JsonParseException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+
 }
@@ -1,11 +1,13 @@
 package com.study.json.util;
 
+import cn.hutool.core.date.DatePattern;
+import cn.hutool.core.date.DateTime;
+import cn.hutool.core.date.DateUtil;
+
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.Temporal;
 import java.util.*;
 
 /**
@@ -15,16 +17,34 @@ import java.util.*;
  **/
 public class DateUtils {
 
-    private static final Set<Class<?>> DATE_TYPES = new HashSet<>(Arrays.asList(
+    /**
+     * 支持的日期类型，子类排在父类之前，保证匹配到最具体的类型
+     */
+    private static final List<Class<?>> DATE_TYPES = List.of(
+            java.sql.Date.class,
+            java.sql.Timestamp.class,
             Date.class,
             Calendar.class,
             LocalDate.class,
             LocalDateTime.class,
             ZonedDateTime.class,
-            Instant.class,
-            java.sql.Date.class,
-            java.sql.Timestamp.class
-    ));
+            Instant.class
+    );
+
+    /**
+     * 每个类对应的日期类型缓存，非日期类型缓存为 Optional.empty()
+     */
+    private static final ClassValue<Optional<Class<?>>> DATE_TYPE_CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            for (Class<?> dateType : DATE_TYPES) {
+                if (dateType.isAssignableFrom(type)) {
+                    return Optional.of(dateType);
+                }
+            }
+            return Optional.empty();
+        }
+    };
 
 
     /**
@@ -34,11 +54,63 @@ public class DateUtils {
      * @return
      */
     public static Class<?> getDateType(Class<?> obj) {
+        return DATE_TYPE_CACHE.get(obj).orElse(null);
+    }
+
+    /**
+     * 将json中的值转换为指定的日期类型
+     *
+     * @param dateType {@link #getDateType(Class)} 返回的日期类型
+     * @param value
+     * @return
+     */
+    public static Object convert(Class<?> dateType, Object value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        DateTime parse = DateUtil.parse(String.valueOf(value));
+
+        if (dateType.equals(LocalDateTime.class)) {
+            return parse.toLocalDateTime();
+        } else if (dateType.equals(Date.class)) {
+            return parse.toJdkDate();
+        } else if (dateType.equals(java.sql.Date.class)) {
+            return parse.toSqlDate();
+        } else if (dateType.equals(java.sql.Timestamp.class)) {
+            return parse.toTimestamp();
+        } else if (dateType.equals(LocalDate.class)) {
+            return parse.toLocalDateTime().toLocalDate();
+        } else if (dateType.equals(Calendar.class)) {
+            return parse.toCalendar();
+        } else if (dateType.equals(Instant.class)) {
+            return parse.toInstant();
+        } else if (dateType.equals(ZonedDateTime.class)) {
+            return parse.toInstant().atZone(parse.getZoneId());
+        }
+
+        throw new IllegalArgumentException("Unsupported date type: " + dateType);
+    }
+
+    /**
+     * 将日期对象格式化为json中的字符串，与 {@link #convert(Class, Object)} 可以互相转换
+     *
+     * @param date
+     * @return
+     */
+    public static String format(Object date) {
+
+        if (date instanceof Date value) {
+            return DateUtil.formatDateTime(value);
+        } else if (date instanceof Calendar value) {
+            return DateUtil.formatDateTime(value.getTime());
+        } else if (date instanceof LocalDateTime value) {
+            return value.format(DatePattern.NORM_DATETIME_FORMATTER);
+        }
 
-        return DATE_TYPES.stream()
-                .filter(clazz -> clazz.isAssignableFrom(obj))
-                .findFirst()
-                .orElse(null);
+        // LocalDate、ZonedDateTime、Instant使用ISO格式
+        return date.toString();
     }
 
 }
@@ -1,56 +1,59 @@
 package com.study.json.util;
 
+import com.study.json.Json;
+import com.study.json.JsonArrayIterator;
+import com.study.json.JsonParser;
+import com.study.json.JsonReader;
+import com.study.json.MappedFileReader;
+import com.study.json.enums.TokenType;
+
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author 王文涛
  */
 public class FileUtils {
 
-    private final static Pattern pattern = Pattern.compile("\\{([^{}]|\\{[^{}]*\\})*\\}");
-
     public static List<String> extractAllJsonStrings(String filePath) throws IOException {
-        String jsonContent = new String(Files.readAllBytes(Paths.get(filePath))).trim();
-        return parseJsonContent(jsonContent);
-    }
-
-
-    private static List<String> parseJsonContent(String jsonString) {
-        List<String> jsonObjects = new ArrayList<>();
-        jsonString = jsonString.trim();
-
-        if (jsonString.startsWith("[")) {
-            // 处理JSON数组
-            extractJsonArray(jsonString, jsonObjects);
-        } else if (jsonString.startsWith("{")) {
-            // 处理单个JSON对象
-            jsonObjects.add(jsonString);
-        } else {
-            throw new IllegalArgumentException("Invalid JSON: Must start with [ or {");
+        try (Stream<String> stream = streamJsonStrings(filePath)) {
+            return stream.collect(Collectors.toList());
         }
-
-        return jsonObjects;
     }
 
+    /**
+     * 逐个读取文件中的json：顶层为数组时依次返回每个元素，顶层为对象时返回该对象。
+     * 元素在流被消费时才解析，返回的是重新序列化后的json字符串，使用完毕后需要关闭流
+     *
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    public static Stream<String> streamJsonStrings(String filePath) throws IOException {
+
+        MappedFileReader charReader = new MappedFileReader(Paths.get(filePath));
+        JsonReader reader = new JsonReader(charReader);
+
+        try {
+            TokenType first = reader.nextToken();
+
+            if (first == TokenType.BEGIN_ARRAY) {
+                // 处理JSON数组
+                return new JsonArrayIterator<>(reader, Object.class).stream().map(Json::toJson);
+            } else if (first == TokenType.BEGIN_OBJECT) {
+                // 处理单个JSON对象
+                String json = Json.toJson(new JsonParser(reader).parse());
+                reader.close();
+                return Stream.of(json);
+            }
 
-    private static void extractJsonArray(String jsonArray, List<String> output) {
-        // 移除外层方括号
-        String content = jsonArray.substring(1, jsonArray.length() - 1).trim();
-        if (content.isEmpty()) {
-            return;
-        }
-
-        // 正则匹配JSON对象（简单版，不处理嵌套对象中的逗号）
-        Matcher matcher = pattern.matcher(content);
-
-        while (matcher.find()) {
-            output.add(matcher.group());
+            throw new IllegalArgumentException("Invalid JSON: Must start with [ or {");
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,210 @@
+package com.study.json.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 逐位累积数字字面量的有效数字和十进制指数，读取字符的同时完成数值计算，不需要先生成字符串。
+ * 可以重复使用，每个数字开始时调用 {@link #reset(boolean)}
+ **/
+public class NumberBuilder {
+
+    /**
+     * 无符号long可以完整保存的十进制位数
+     */
+    private static final int MAX_DIGITS = 19;
+
+    /**
+     * 指数的上限，超出后结果只可能是0或无穷大
+     */
+    private static final int MAX_EXPONENT = 1_000_000;
+
+    private boolean negative;
+
+    /**
+     * 有效数字，按无符号数处理
+     */
+    private long significand;
+
+    /**
+     * 已计入有效数字的位数，不含前导0
+     */
+    private int digits;
+
+    /**
+     * 小数点和超出的整数位带来的指数
+     */
+    private int exponent;
+
+    /**
+     * 指数部分的值
+     */
+    private int explicitExponent;
+
+    private boolean exponentNegative;
+
+    /**
+     * 字面量中没有小数点和指数
+     */
+    private boolean integral;
+
+    /**
+     * 是否有非0的数字因超出位数而被丢弃
+     */
+    private boolean truncated;
+
+    public void reset(boolean negative) {
+        this.negative = negative;
+        this.significand = 0;
+        this.digits = 0;
+        this.exponent = 0;
+        this.explicitExponent = 0;
+        this.exponentNegative = false;
+        this.integral = true;
+        this.truncated = false;
+    }
+
+    public void integerDigit(char ch) {
+        if (digits < MAX_DIGITS) {
+            append(ch);
+        } else {
+            exponent++;
+            truncated |= ch != '0';
+        }
+    }
+
+    /**
+     * 读到小数点
+     */
+    public void fraction() {
+        integral = false;
+    }
+
+    public void fractionDigit(char ch) {
+        if (digits < MAX_DIGITS) {
+            append(ch);
+            exponent--;
+        } else {
+            truncated |= ch != '0';
+        }
+    }
+
+    /**
+     * 读到指数符号
+     *
+     * @param negative 指数是否为负
+     */
+    public void exponent(boolean negative) {
+        integral = false;
+        exponentNegative = negative;
+    }
+
+    public void exponentDigit(char ch) {
+        if (explicitExponent < MAX_EXPONENT) {
+            explicitExponent = explicitExponent * 10 + (ch - '0');
+        }
+    }
+
+    private void append(char ch) {
+        if (digits > 0 || ch != '0') {
+            significand = significand * 10 + (ch - '0');
+            digits++;
+        }
+    }
+
+    /**
+     * 字面量是否为整数形式
+     *
+     * @return
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * 是否为long范围内的整数
+     *
+     * @return
+     */
+    public boolean isLong() {
+        return integral && !truncated && exponent == 0
+                && Long.compareUnsigned(significand, negative ? Long.MIN_VALUE : Long.MAX_VALUE) <= 0;
+    }
+
+    /**
+     * 转换为Number，整数按大小依次使用Integer、Long、BigInteger，其它使用Double，超出double范围时使用BigDecimal
+     *
+     * @param text 数字字面量，只在需要回退时使用
+     * @return
+     */
+    public Number toNumber(CharSequence text) {
+
+        if (integral) {
+            if (isLong()) {
+                long value = negative ? -significand : significand;
+                if ((int) value == value) {
+                    return (int) value;
+                }
+                return value;
+            }
+            return new BigInteger(text.toString());
+        }
+
+        double value = doubleValue(text);
+        if (Double.isInfinite(value)) {
+            return new BigDecimal(text.toString());
+        }
+        return value;
+    }
+
+    /**
+     * 转换为long，只接受long范围内的整数
+     *
+     * @param text 数字字面量，用于错误信息
+     * @return
+     */
+    public long longValue(CharSequence text) {
+        if (!isLong()) {
+            throw new NumberFormatException("Not a long value: " + text);
+        }
+        return negative ? -significand : significand;
+    }
+
+    /**
+     * 转换为int，只接受int范围内的整数
+     *
+     * @param text 数字字面量，用于错误信息
+     * @return
+     */
+    public int intValue(CharSequence text) {
+        long value = isLong() ? (negative ? -significand : significand) : Long.MAX_VALUE;
+        if ((int) value != value) {
+            throw new NumberFormatException("Not an int value: " + text);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 转换为最接近的double
+     *
+     * @param text 数字字面量，只在需要回退时使用
+     * @return
+     */
+    public double doubleValue(CharSequence text) {
+
+        if (!truncated) {
+            long total = (long) exponent + (exponentNegative ? -explicitExponent : explicitExponent);
+            if (total >= Integer.MIN_VALUE && total <= Integer.MAX_VALUE) {
+                double value = NumberUtils.toDouble(negative, significand, (int) total);
+                if (!Double.isNaN(value)) {
+                    return value;
+                }
+            }
+        }
+
+        return Double.parseDouble(text.toString());
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.study.json.util;
+
+import com.study.json.exception.JsonParseException;
+
+import java.math.BigInteger;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description 数字转换工具。十进制到double的转换先尝试Clinger快速路径，再使用Eisel-Lemire算法，
+ * 两者都无法确定结果时（超过19位有效数字、次正规数等）才交给 {@link Double#parseDouble(String)}
+ **/
+public class NumberUtils {
+
+    /**
+     * 可以精确表示的10的幂
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    /**
+     * 解析json中的数字字面量
+     *
+     * @param text
+     * @return Integer、Long、BigInteger、Double或BigDecimal
+     */
+    public static Number parse(CharSequence text) {
+        return scan(text).toNumber(text);
+    }
+
+    /**
+     * 扫描数字字面量
+     *
+     * @param text
+     * @return
+     */
+    public static NumberBuilder scan(CharSequence text) {
+        return scan(text, new NumberBuilder());
+    }
+
+    /**
+     * 使用给定的NumberBuilder扫描数字字面量，用于重复扫描大量数字时避免创建对象
+     *
+     * @param text
+     * @param number
+     * @return 传入的number
+     */
+    public static NumberBuilder scan(CharSequence text, NumberBuilder number) {
+
+        int length = text.length();
+        int i = 0;
+
+        boolean negative = length > 0 && text.charAt(0) == '-';
+        number.reset(negative);
+        if (negative) {
+            i++;
+        }
+
+        int start = i;
+        while (i < length && isDigit(text.charAt(i))) {
+            number.integerDigit(text.charAt(i++));
+        }
+        if (i == start) {
+            throw new NumberFormatException("Invalid number: " + text);
+        }
+        // 多位整数不能以0开头
+        if (i - start > 1 && text.charAt(start) == '0') {
+            throw new NumberFormatException("Leading zeros are not allowed: " + text);
+        }
+
+        if (i < length && text.charAt(i) == '.') {
+            number.fraction();
+            start = ++i;
+            while (i < length && isDigit(text.charAt(i))) {
+                number.fractionDigit(text.charAt(i++));
+            }
+            if (i == start) {
+                throw new NumberFormatException("Invalid number: " + text);
+            }
+        }
+
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            boolean exponentNegative = i < length && text.charAt(i) == '-';
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                i++;
+            }
+            number.exponent(exponentNegative);
+            start = i;
+            while (i < length && isDigit(text.charAt(i))) {
+                number.exponentDigit(text.charAt(i++));
+            }
+            if (i == start) {
+                throw new NumberFormatException("Invalid number: " + text);
+            }
+        }
+
+        if (i != length) {
+            throw new NumberFormatException("Invalid number: " + text);
+        }
+
+        return number;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * 将 significand * 10^exponent 转换为最接近的double
+     *
+     * @param negative
+     * @param significand 无符号的十进制有效数字，不超过19位
+     * @param exponent    十进制指数
+     * @return 无法快速确定结果时返回NaN
+     */
+    public static double toDouble(boolean negative, long significand, int exponent) {
+
+        // Clinger快速路径：有效数字和10的幂都可以精确表示，一次乘除即为正确舍入的结果
+        if (exponent >= -22 && exponent <= 22 && Long.compareUnsigned(significand, 1L << 53) <= 0) {
+            double value = (double) significand;
+            value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+
+        if (significand == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+
+        if (exponent < SMALLEST_POWER_OF_TEN || exponent > LARGEST_POWER_OF_TEN) {
+            return Double.NaN;
+        }
+
+        return eiselLemire(negative, significand, exponent);
+    }
+
+    /**
+     * Eisel-Lemire算法：用5^exponent的128位近似值与有效数字相乘，取高位得到尾数
+     */
+    private static double eiselLemire(boolean negative, long significand, int exponent) {
+
+        long[] powers = PowersOfFive.TABLE;
+        int index = 2 * (exponent - SMALLEST_POWER_OF_TEN);
+
+        int lz = Long.numberOfLeadingZeros(significand);
+        long w = significand << lz;
+
+        long high = unsignedMultiplyHigh(w, powers[index]);
+        long low = w * powers[index];
+
+        // 高位的低9位全为1时，乘积的精度可能不足，用128位近似值的低64位修正
+        if ((high & 0x1FF) == 0x1FF) {
+            long secondHigh = unsignedMultiplyHigh(w, powers[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (int) (((217706L * exponent) >> 16) + 63) + upperBit - lz + 1023;
+
+        if (power2 <= 0) {
+            // 次正规数
+            return Double.NaN;
+        }
+
+        // 恰好位于两个double中间时按偶数舍入
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23 && (mantissa & 3) == 1
+                && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 52)) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+
+        if (power2 >= 0x7FF) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        long bits = mantissa | ((long) power2 << 52) | (negative ? Long.MIN_VALUE : 0L);
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * 将json中的值转换为long，只接受可以精确表示的整数
+     *
+     * @param value
+     * @return
+     */
+    public static long toLong(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigInteger big && big.bitLength() < 64) {
+            return big.longValue();
+        }
+        throw new JsonParseException("Value is not a long: " + value);
+    }
+
+    /**
+     * 将json中的值转换为int，只接受可以精确表示的整数
+     *
+     * @param value
+     * @return
+     */
+    public static int toInt(Object value) {
+        long number = toLong(value);
+        if ((int) number != number) {
+            throw new JsonParseException("Value is not an int: " + value);
+        }
+        return (int) number;
+    }
+
+    /**
+     * 将json中的数字转换为double
+     *
+     * @param value
+     * @return
+     */
+    public static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        throw new JsonParseException("Value is not a number: " + value);
+    }
+
+    /**
+     * 5的幂的128位近似值，第一次使用时生成，每个幂占两个long（高64位、低64位）。
+     * 负数次幂取上界，正数次幂截断，与fast_float的表一致
+     */
+    private static class PowersOfFive {
+
+        static final long[] TABLE = generate();
+
+        private static long[] generate() {
+
+            long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+            BigInteger five = BigInteger.valueOf(5);
+
+            for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+
+                BigInteger value;
+                if (q < 0) {
+                    BigInteger power = five.pow(-q);
+                    int z = power.bitLength();
+                    int b = q >= -27 ? z + 127 : 2 * z + 128;
+                    value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                    if (value.bitLength() > 128) {
+                        value = value.shiftRight(value.bitLength() - 128);
+                    }
+                } else {
+                    value = five.pow(q);
+                    int bits = value.bitLength();
+                    value = bits < 128 ? value.shiftLeft(128 - bits) : value.shiftRight(bits - 128);
+                }
+
+                int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+                table[index] = value.shiftRight(64).longValue();
+                table[index + 1] = value.longValue();
+            }
+
+            return table;
+        }
+    }
+
+}
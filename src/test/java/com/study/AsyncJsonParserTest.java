@@ -0,0 +1,161 @@
+package com.study;
+
+import com.study.json.AsyncJsonParser;
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class AsyncJsonParserTest {
+
+    private static final String JSON = "{\"name\":\"张三\\n\\\"\\u4e2d😀\",\"age\":-12.5e3,\"big\":123456789012345678901234567890," +
+            "\"list\":[1,2,3,4.5,true,false,null,\"\"],\"nested\":{\"a\":[{},[]]}, \"n\" : 7 }";
+
+    @Test
+    public void testEverySplit() throws Exception {
+
+        String expected = Json.toJson(Json.parse(JSON));
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+
+        // 在每个位置切成两段，覆盖字符串、转义、多字节字符、数字和字面量中间被切断的情况
+        for (int i = 0; i <= bytes.length; i++) {
+            AsyncJsonParser parser = new AsyncJsonParser();
+            parser.feed(ByteBuffer.wrap(bytes, 0, i));
+            parser.feed(ByteBuffer.wrap(bytes, i, bytes.length - i));
+            parser.endOfInput();
+            assertEquals("split at " + i, expected, Json.toJson(parser.result().get()));
+        }
+
+        // 逐字节输入
+        AsyncJsonParser parser = new AsyncJsonParser();
+        for (byte b : bytes) {
+            parser.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+        assertFalse(parser.result().isDone());
+        parser.endOfInput();
+        JsonObject object = (JsonObject) parser.result().get();
+        assertEquals("张三\n\"中😀", object.get("name"));
+        assertEquals(7L, ((Number) object.get("n")).longValue());
+    }
+
+    @Test
+    public void testScalarAtEnd() throws Exception {
+
+        // 顶层数字只有在输入结束时才能确定已经完整
+        AsyncJsonParser parser = new AsyncJsonParser();
+        parser.feed(ByteBuffer.wrap("12".getBytes(StandardCharsets.UTF_8)));
+        parser.feed(ByteBuffer.wrap("34".getBytes(StandardCharsets.UTF_8)));
+        parser.endOfInput();
+        assertEquals(1234L, ((Number) parser.result().get()).longValue());
+
+        parser = new AsyncJsonParser();
+        parser.feed(ByteBuffer.wrap("[1,2,3]".getBytes(StandardCharsets.UTF_8)));
+        parser.endOfInput();
+        assertArrayEquals(new long[]{1, 2, 3}, ((JsonArray) parser.result().get()).toLongArray());
+    }
+
+    @Test
+    public void testInvalid() {
+
+        String[] invalid = {"", "{", "[1,]", "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "tru", "truex", "\"abc", "[1]]", "[1] 2",
+                "{\"a\":\"\\x\"}", "\"\\u12g4\"", "[01.]", "[-]", "{1:2}", "[\"a\tb\"]", "]"};
+        for (String json : invalid) {
+            AsyncJsonParser parser = new AsyncJsonParser();
+            assertThrows(json, JsonParseException.class, () -> {
+                parser.feed(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+                parser.endOfInput();
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, () -> parser.result().get());
+            assertTrue(e.getCause() instanceof JsonParseException);
+            assertThrows(IllegalStateException.class, parser::endOfInput);
+        }
+    }
+
+    @Test
+    public void testChannelFailure() {
+
+        // 第一次读取返回部分内容，第二次读取抛出运行时异常，结果不能一直处于未完成状态
+        AsynchronousByteChannel channel = new AsynchronousByteChannel() {
+
+            private int reads;
+
+            @Override
+            public <A> void read(ByteBuffer dst, A attachment, CompletionHandler<Integer, ? super A> handler) {
+                if (reads++ > 0) {
+                    throw new IllegalStateException("channel failed");
+                }
+                dst.put("[1,".getBytes(StandardCharsets.UTF_8));
+                handler.completed(3, attachment);
+            }
+
+            @Override
+            public Future<Integer> read(ByteBuffer dst) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <A> void write(ByteBuffer src, A attachment, CompletionHandler<Integer, ? super A> handler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Future<Integer> write(ByteBuffer src) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> Json.parseAsync(channel).get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals("channel failed", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testFileChannel() throws Exception {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"用户").append(i).append("\"}");
+        }
+        String json = builder.append(']').toString();
+
+        Path file = Files.createTempFile("async", ".json");
+        try {
+            Files.writeString(file, json);
+            try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ)) {
+                assertEquals(Json.toJson(Json.parse(json)), Json.toJson(Json.parseAsync(channel).get()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
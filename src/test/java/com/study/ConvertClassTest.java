@@ -0,0 +1,80 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.enums.BindingBackend;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class ConvertClassTest {
+
+    private static final String USER_JSON = "{\"id\": 101, \"name\": \"Alice\", \"isActive\": true, \"lastLogin\": \"2024-05-21 13:12:53\"}";
+
+    @Test
+    public void testParseToClass() throws Exception {
+
+        for (int i = 0; i < 3; i++) {
+            User user = Json.parseToClass(USER_JSON, User.class);
+            assertEquals(101, user.getId());
+            assertEquals("Alice", user.getName());
+            assertTrue(user.isActive());
+            assertEquals(LocalDateTime.of(2024, 5, 21, 13, 12, 53), user.getLastLogin());
+        }
+    }
+
+    @Test
+    public void testMethodHandleBackend() throws Exception {
+
+        for (int i = 0; i < 3; i++) {
+            User user = Json.parseToClass(USER_JSON, User.class, BindingBackend.METHOD_HANDLE);
+            assertEquals(101, user.getId());
+            assertEquals("Alice", user.getName());
+            assertTrue(user.isActive());
+            assertEquals(LocalDateTime.of(2024, 5, 21, 13, 12, 53), user.getLastLogin());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNarrowingRejected() throws Exception {
+        Json.parseToClass("{\"id\": 1.5}", User.class, BindingBackend.METHOD_HANDLE);
+    }
+
+    @Test
+    public void testOverflowRejected() throws Exception {
+
+        // 大整数和大数字不能截断后写入整数属性
+        String[] invalid = {"{\"count\": 18446744073709551621}", "{\"count\": 2147483648}", "{\"total\": 36893488147419103237}",
+                "{\"total\": 9223372036854775808}", "{\"total\": 1e400}", "{\"total\": 1.5}"};
+        for (String json : invalid) {
+            for (BindingBackend backend : BindingBackend.values()) {
+                assertThrows(json, IllegalArgumentException.class, () -> Json.parseToJsonObject(json).convertClass(Counter.class, backend));
+            }
+        }
+
+        Counter counter = Json.parseToJsonObject("{\"count\": 2147483647, \"total\": 9223372036854775807}").convertClass(Counter.class);
+        assertEquals(Integer.MAX_VALUE, counter.count);
+        assertEquals(Long.MAX_VALUE, counter.total);
+        counter = Json.parseToJsonObject("{\"total\": -9223372036854775808}").convertClass(Counter.class);
+        assertEquals(Long.MIN_VALUE, counter.total);
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void testUnknownField() throws Exception {
+        Json.parseToClass("{\"unknown\": 1}", User.class);
+    }
+
+    public static class Counter {
+        private int count;
+        private long total;
+    }
+
+}
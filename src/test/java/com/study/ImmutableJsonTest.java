@@ -0,0 +1,106 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class ImmutableJsonTest {
+
+    private static final String JSON = "{\"id\": 1, \"longs\": [1, 2, 3], \"doubles\": [1.5, 2.5], \"mixed\": [1, \"a\", null, {\"k\": [true]}], " +
+            "\"empty\": [], \"obj\": {}}";
+
+    @Test
+    public void testParseImmutable() throws Exception {
+
+        String expected = Json.toJson(Json.parse(JSON));
+        Object[] trees = {Json.parseImmutable(JSON), Json.parseImmutable(JSON.getBytes(StandardCharsets.UTF_8))};
+
+        for (Object tree : trees) {
+            JsonObject object = (JsonObject) tree;
+            assertEquals(expected, Json.toJson(object));
+            assertTrue(object.isFrozen());
+            assertArrayEquals(new long[]{1, 2, 3}, object.getJsonArray("longs").toLongArray());
+            assertArrayEquals(new double[]{1.5, 2.5}, object.getJsonArray("doubles").toDoubleArray(), 0);
+            assertEquals(2.5, object.getJsonArray("doubles").doubleStream().max().orElseThrow(), 0);
+
+            JsonArray mixed = object.getJsonArray("mixed");
+            assertTrue(mixed.isFrozen());
+            assertTrue(mixed.getJsonObject(3).getJsonArray("k").isFrozen());
+            assertThrows(UnsupportedOperationException.class, () -> mixed.add(1));
+            assertThrows(UnsupportedOperationException.class, () -> object.getJsonArray("longs").addLong(4));
+            assertThrows(UnsupportedOperationException.class, () -> object.getJsonArray("empty").addDouble(1));
+            assertThrows(UnsupportedOperationException.class, () -> object.getJsonObject("obj").put("a", 1));
+
+            Iterator<Object> iterator = mixed.iterator();
+            iterator.next();
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(4, mixed.size());
+        }
+
+        assertEquals("x", Json.parseImmutable("\"x\""));
+    }
+
+    @Test
+    public void testFreezeMutable() throws Exception {
+
+        // 冻结前的修改保留，冻结后的对象在各方面与冻结前一致
+        JsonObject object = Json.parseToJsonObject(JSON);
+        object.getJsonArray("longs").addLong(4);
+        object.put("added", "x");
+        String before = object.toString();
+
+        assertSame(object, object.freeze());
+        assertEquals(before, object.toString());
+        assertEquals(4, object.getJsonArray("longs").getLong(3));
+        assertEquals("x", object.getString("added"));
+        assertSame(object, object.freeze());
+    }
+
+    @Test
+    public void testSharedAcrossThreads() throws Exception {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"scores\":[").append(i).append(',').append(i + 1).append("]}");
+        }
+        JsonArray shared = (JsonArray) Json.parseImmutable(builder.append(']').toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> sums = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                sums.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (Object element : shared) {
+                        JsonObject object = (JsonObject) element;
+                        sum += object.getLong("id") + object.getJsonArray("scores").longStream().sum();
+                    }
+                    return sum;
+                }));
+            }
+            for (Future<Long> sum : sums) {
+                // id之和加上i与i+1之和
+                assertEquals(3L * (1999L * 2000 / 2) + 2000, (long) sum.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArrayIterator;
+import com.study.json.JsonObject;
+import com.study.json.util.FileUtils;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonArrayIteratorTest {
+
+    private static final String JSON = "[{\"a\": {\"b\": {\"c\": \"{[}]\"}}}, 1, \"x\", null, [1, [2]], {}]";
+
+    @Test
+    public void testIterate() throws Exception {
+
+        JsonArrayIterator<Object> iterator = Json.iterateArray(new StringReader(JSON), Object.class);
+
+        JsonObject first = (JsonObject) iterator.next();
+        assertEquals("{[}]", first.getJsonObject("a").getJsonObject("b").get("c"));
+        assertEquals(1, iterator.next());
+        assertEquals("x", iterator.next());
+        assertNull(iterator.next());
+        assertEquals("[1,[2]]", iterator.next().toString());
+        assertEquals("{}", iterator.next().toString());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testBind() throws Exception {
+
+        String json = "[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}]";
+        JsonArrayIterator<User> iterator = Json.iterateArray(new StringReader(json), User.class);
+
+        assertEquals(1, iterator.next().getId());
+        assertEquals("b", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testFileUtils() throws Exception {
+
+        Path path = Files.createTempFile("array", ".json");
+        path.toFile().deleteOnExit();
+        Files.writeString(path, JSON, StandardCharsets.UTF_8);
+
+        List<String> list = FileUtils.extractAllJsonStrings(path.toString());
+        assertEquals(6, list.size());
+        assertEquals("{\"a\":{\"b\":{\"c\":\"{[}]\"}}}", list.get(0));
+
+        try (Stream<Object> stream = Json.streamArray(path, Object.class)) {
+            assertEquals(6, stream.count());
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonArrayPublisherTest {
+
+    @Test
+    public void testOneByOne() throws Exception {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String json = "[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}, {\"id\": 3, \"name\": \"c\"}]";
+            RecordingSubscriber<User> subscriber = new RecordingSubscriber<>(1);
+            Json.publishArray(new StringReader(json), User.class, executor).subscribe(subscriber);
+
+            subscriber.done.get(10, TimeUnit.SECONDS);
+            assertEquals(3, subscriber.items.size());
+            assertEquals("c", subscriber.items.get(2).getName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBackpressure() {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 100000; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"user").append(i).append("\"}");
+        }
+        CountingReader reader = new CountingReader(new StringReader(builder.append(']').toString()));
+
+        // 同步执行，每次请求返回时元素已经发送完毕
+        RecordingSubscriber<JsonObject> subscriber = new RecordingSubscriber<>(0);
+        Json.publishArray(reader, JsonObject.class, Runnable::run).subscribe(subscriber);
+        assertEquals(0, reader.count);
+
+        subscriber.subscription.request(3);
+        assertEquals(3, subscriber.items.size());
+        assertEquals(2L, ((Number) subscriber.items.get(2).get("id")).longValue());
+        // 只读取了很小的一部分输入
+        assertTrue(reader.count < builder.length() / 10);
+
+        subscriber.subscription.cancel();
+        assertTrue(reader.closed);
+        subscriber.subscription.request(5);
+        assertEquals(3, subscriber.items.size());
+        assertFalse(subscriber.done.isDone());
+    }
+
+    @Test
+    public void testErrors() {
+
+        RecordingSubscriber<Object> invalid = new RecordingSubscriber<>(Long.MAX_VALUE);
+        Json.publishArray(new StringReader("[1, 2, }"), Object.class, Runnable::run).subscribe(invalid);
+        assertEquals(2, invalid.items.size());
+        assertTrue(invalid.error instanceof JsonParseException);
+
+        RecordingSubscriber<Object> notArray = new RecordingSubscriber<>(1);
+        Flow.Publisher<Object> publisher = Json.publishArray(new StringReader("{}"), Object.class, Runnable::run);
+        publisher.subscribe(notArray);
+        assertTrue(notArray.error instanceof JsonParseException);
+
+        // 只能订阅一次
+        RecordingSubscriber<Object> second = new RecordingSubscriber<>(1);
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+
+        RecordingSubscriber<Object> negative = new RecordingSubscriber<>(-1);
+        Json.publishArray(new StringReader("[1]"), Object.class, Runnable::run).subscribe(negative);
+        assertTrue(negative.error instanceof IllegalArgumentException);
+    }
+
+    /**
+     * 订阅时请求initial个，之后每收到一个再请求一个
+     */
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initial;
+
+        private final List<T> items = new ArrayList<>();
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Flow.Subscription subscription;
+
+        private Throwable error;
+
+        RecordingSubscriber(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initial != 0) {
+                subscription.request(initial);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (initial == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    private static class CountingReader extends FilterReader {
+
+        private long count;
+
+        private boolean closed;
+
+        CountingReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) throws IOException {
+            int n = super.read(buffer, off, len);
+            count += Math.max(n, 0);
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonArrayTest {
+
+    @Test
+    public void testLongStorage() throws Exception {
+
+        JsonArray array = Json.parseToJsonArray("[1, -2, 3000000000]");
+
+        assertEquals(3, array.size());
+        assertEquals(1, array.get(0));
+        assertEquals(3000000000L, array.get(2));
+        assertEquals(-2L, array.getLong(1));
+        assertEquals(-2.0, array.getDouble(1), 0.0);
+        assertArrayEquals(new long[]{1, -2, 3000000000L}, array.toLongArray());
+        assertEquals(2999999999L, array.longStream().sum());
+        assertThrows(JsonParseException.class, () -> array.getInt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(3));
+        assertEquals("[1,-2,3000000000]", array.toString());
+    }
+
+    @Test
+    public void testDoubleStorage() throws Exception {
+
+        JsonArray array = Json.parseToJsonArray("[1.5, -0.25, 1e3]");
+
+        assertEquals(1.5, array.get(0));
+        assertArrayEquals(new double[]{1.5, -0.25, 1000.0}, array.toDoubleArray(), 0.0);
+        assertEquals(1001.25, array.doubleStream().sum(), 0.0);
+        assertThrows(JsonParseException.class, () -> array.getLong(0));
+        assertEquals("[1.5,-0.25,1000.0]", array.toString());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+
+        // 混合类型时转换为通用存储，已有元素的类型保持不变
+        JsonArray mixed = Json.parseToJsonArray("[1, 2.5, \"a\", 9223372036854775808]");
+        assertEquals(1, mixed.get(0));
+        assertEquals(2.5, mixed.get(1));
+        assertEquals("a", mixed.get(2));
+        assertEquals(new BigInteger("9223372036854775808"), mixed.get(3));
+
+        JsonArray array = new JsonArray();
+        array.addDouble(0.5);
+        array.addLong(7);
+        array.add(null);
+        array.add(5L);
+
+        List<Object> values = new ArrayList<>();
+        array.forEach(values::add);
+        assertEquals(Arrays.asList(0.5, 7, null, 5L), values);
+        assertThrows(JsonParseException.class, array::toDoubleArray);
+
+        // int范围内的Long不使用整数存储，保证读取时仍为Long
+        JsonArray longs = new JsonArray();
+        longs.add(1);
+        longs.add(2L);
+        assertEquals(1, longs.get(0));
+        assertEquals(2L, longs.get(1));
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonCache;
+import com.study.json.JsonObject;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonCacheTest {
+
+    private static final String JSON = "{\"name\": \"config\", \"limits\": [1, 2, 3], \"items\": [{\"id\": 1}, \"x\"], \"nested\": {\"a\": {}}}";
+
+    @Test
+    public void testHit() {
+
+        JsonCache cache = new JsonCache(1 << 20);
+
+        JsonObject first = (JsonObject) cache.parse(JSON);
+        // 内容相同的另一个字符串实例同样命中
+        JsonObject second = (JsonObject) cache.parse(new String(JSON.toCharArray()));
+        assertSame(first, second);
+        assertNull(cache.parse("null"));
+        assertNull(cache.parse("null"));
+
+        JsonCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        // 占用包括解析出的整棵树，不只是输入的字符
+        assertTrue(stats.weight() > 2L * (JSON.length() + 4));
+        assertEquals(0.5, stats.hitRate(), 0);
+
+        // 解析失败不缓存
+        assertThrows(JsonParseException.class, () -> cache.parse("{"));
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    public void testFrozen() {
+
+        JsonObject object = (JsonObject) new JsonCache(1 << 20).parse(JSON);
+        assertTrue(object.isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> object.put("a", 1));
+        assertThrows(UnsupportedOperationException.class, () -> object.getJsonArray("limits").addLong(4));
+        assertThrows(UnsupportedOperationException.class, () -> object.getJsonObject("nested").getJsonObject("a").put("b", 1));
+        assertThrows(UnsupportedOperationException.class, () -> object.getJsonArray("items").getJsonObject(0).put("id", 2));
+        assertThrows(UnsupportedOperationException.class, () -> object.getAllKeyValue().get(0).setValue("x"));
+
+        JsonArray items = object.getJsonArray("items");
+        assertThrows(UnsupportedOperationException.class, () -> {
+            var iterator = items.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        assertEquals("{\"name\":\"config\",\"limits\":[1,2,3],\"items\":[{\"id\":1},\"x\"],\"nested\":{\"a\":{}}}", object.toString());
+
+        // 未冻结的对象不受影响
+        JsonObject mutable = (JsonObject) Json.parseLazy(JSON);
+        mutable.put("extra", 1);
+        assertFalse(mutable.isFrozen());
+        assertTrue(mutable.freeze().getJsonObject("nested").isFrozen());
+    }
+
+    @Test
+    public void testEviction() {
+
+        String a = "{\"a\": 1}";
+        String b = "{\"b\": 2}";
+        String c = "{\"c\": 3}";
+        String d = "{\"d\": 4}";
+
+        // 结构相同的条目占用相同，容量刚好放下三个
+        JsonCache probe = new JsonCache(1 << 20);
+        probe.parse(a);
+        long entryWeight = probe.stats().weight();
+        JsonCache cache = new JsonCache(3 * entryWeight + entryWeight / 2);
+
+        Object first = cache.parse(a);
+        cache.parse(b);
+        cache.parse(c);
+        // a最近被访问，b被淘汰
+        cache.parse(a);
+        cache.parse(d);
+
+        JsonCache.Stats stats = cache.stats();
+        assertEquals(1, stats.evictions());
+        assertEquals(3, stats.size());
+        assertEquals(3 * entryWeight, stats.weight());
+        assertSame(first, cache.parse(a));
+        assertEquals(3, cache.stats().size());
+
+        cache.parse(b);
+        assertEquals(2, cache.stats().evictions());
+
+        // 超过上限的输入不缓存
+        cache.parse("[" + "1,".repeat(100) + "1]");
+        assertEquals(3, cache.stats().size());
+
+        cache.clear();
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+
+        JsonCache cache = new JsonCache(1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> {
+                    JsonObject object = (JsonObject) cache.parse(JSON);
+                    long sum = 0;
+                    for (Object value : object.getJsonArray("limits")) {
+                        sum += ((Number) value).longValue();
+                    }
+                    assertEquals(6, sum);
+                    return object;
+                }));
+            }
+
+            Object first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertTrue(((JsonObject) result.get()).isFrozen());
+                assertEquals(first.toString(), result.get().toString());
+            }
+            assertEquals(64, cache.stats().hits() + cache.stats().misses());
+            assertEquals(1, cache.stats().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonHandler;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonHandlerTest {
+
+    @Test
+    public void testEvents() {
+
+        StringBuilder events = new StringBuilder();
+        Json.parse("{\"a\": [1, -2.5, 123456789012345678901234567890, \"x\\ty\", true, null, {}], \"b\": {\"c\": []}}", new JsonHandler() {
+            @Override
+            public void startObject() {
+                events.append('{');
+            }
+
+            @Override
+            public void endObject() {
+                events.append('}');
+            }
+
+            @Override
+            public void startArray() {
+                events.append('[');
+            }
+
+            @Override
+            public void endArray() {
+                events.append(']');
+            }
+
+            @Override
+            public void key(CharSequence key) {
+                events.append("key:").append(key).append(' ');
+            }
+
+            @Override
+            public void stringValue(CharSequence value) {
+                events.append("string:").append(value).append(' ');
+            }
+
+            @Override
+            public void numberValue(long value) {
+                events.append("long:").append(value).append(' ');
+            }
+
+            @Override
+            public void numberValue(double value) {
+                events.append("double:").append(value).append(' ');
+            }
+
+            @Override
+            public void numberValue(Number value) {
+                assertTrue(value instanceof BigInteger);
+                events.append("big:").append(value).append(' ');
+            }
+
+            @Override
+            public void booleanValue(boolean value) {
+                events.append("boolean:").append(value).append(' ');
+            }
+
+            @Override
+            public void nullValue() {
+                events.append("null ");
+            }
+        });
+
+        assertEquals("{key:a [long:1 double:-2.5 big:123456789012345678901234567890 string:x\ty boolean:true null {}]key:b {key:c []}}", events.toString());
+    }
+
+    @Test
+    public void testInvalid() {
+
+        String[] invalid = {"", "{", "[1,]", "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "[1]]", "[1] 2", "{1:2}", "]", "[}", "{\"a\":1]",
+                "{\"a\":1} x", "[1] x", "x", "[01]", "-01", "[NaN]", "[1.5.3]", "[\"a\\x\"]"};
+        for (String json : invalid) {
+            assertThrows(json, JsonParseException.class, () -> Json.parse(json, new JsonHandler() {
+            }));
+        }
+
+        // 嵌套深度不受调用栈限制
+        String deep = "[".repeat(100000) + "]".repeat(100000);
+        int[] depth = new int[2];
+        Json.parse(deep, new JsonHandler() {
+            @Override
+            public void startArray() {
+                depth[1] = Math.max(depth[1], ++depth[0]);
+            }
+
+            @Override
+            public void endArray() {
+                depth[0]--;
+            }
+        });
+        assertEquals(100000, depth[1]);
+    }
+
+    @Test
+    public void testNoAllocation() {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"user").append(i).append("\",\"score\":").append(i).append(".5}");
+        }
+        String json = builder.append(']').toString();
+
+        SumHandler handler = new SumHandler();
+        // 预热，线程本地的解析上下文已经创建
+        for (int i = 0; i < 5; i++) {
+            Json.parse(json, handler);
+        }
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        handler.count = 0;
+        handler.sum = 0;
+        long before = bean.getThreadAllocatedBytes(threadId);
+        Json.parse(json, handler);
+        long allocated = bean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(40000, handler.count);
+        assertEquals(2L * (19999L * 20000 / 2) + 10000, handler.sum, 0);
+        // 输入约1MB，解析过程中只有StringReader等少量对象
+        assertTrue("allocated " + allocated, allocated < 16 * 1024);
+    }
+
+    private static class SumHandler implements JsonHandler {
+
+        private long count;
+
+        private double sum;
+
+        @Override
+        public void numberValue(long value) {
+            count++;
+            sum += value;
+        }
+
+        @Override
+        public void numberValue(double value) {
+            count++;
+            sum += value;
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.study;
+
+import com.study.json.JsonLines;
+import com.study.json.JsonObject;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonLinesTest {
+
+    @Test
+    public void testStream() throws Exception {
+
+        String lines = "{\"id\": 1, \"name\": \"a\"}\n\n{\"id\": 2, \"name\": \"b\"}\n";
+
+        try (Stream<User> stream = JsonLines.stream(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), User.class)) {
+            assertEquals(List.of(1, 2), stream.map(User::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testWriteAndParallel() throws Exception {
+
+        List<JsonObject> records = new ArrayList<>();
+        for (int i = 0; i < 200000; i++) {
+            JsonObject record = new JsonObject();
+            record.put("id", i);
+            record.put("message", "line " + i + " 你好");
+            records.add(record);
+        }
+
+        StringWriter writer = new StringWriter();
+        JsonLines.write(records, writer);
+
+        Path path = Files.createTempFile("records", ".ndjson");
+        path.toFile().deleteOnExit();
+        Files.writeString(path, writer.toString(), StandardCharsets.UTF_8);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<JsonObject> ordered = JsonLines.parseParallel(path, JsonObject.class, pool);
+            assertEquals(records.size(), ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                assertEquals(i, ordered.get(i).get("id"));
+            }
+
+            ConcurrentLinkedQueue<JsonObject> unordered = new ConcurrentLinkedQueue<>();
+            JsonLines.forEachParallel(path, JsonObject.class, unordered::add, pool);
+            assertEquals(records.size(), unordered.size());
+        } finally {
+            pool.shutdown();
+        }
+
+        try (Stream<Object> stream = JsonLines.stream(path, Object.class)) {
+            assertEquals(records.size(), stream.count());
+        }
+    }
+
+}
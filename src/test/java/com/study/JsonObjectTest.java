@@ -0,0 +1,69 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonObjectTest {
+
+    @Test
+    public void testInsertionOrder() throws Exception {
+
+        JsonObject object = Json.parseToJsonObject("{\"b\": 1, \"a\": 2, \"c\": 3, \"a\": 4}");
+
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : object.getAllKeyValue()) {
+            keys.add(entry.getKey());
+        }
+
+        // 重复的key保留第一次出现的位置，值为最后一次出现的值
+        assertEquals(List.of("b", "a", "c"), keys);
+        assertEquals(4, object.get("a"));
+        assertEquals("{\"b\":1,\"a\":4,\"c\":3}", object.toString());
+    }
+
+    @Test
+    public void testManyKeys() {
+
+        JsonObject object = new JsonObject();
+        for (int i = 0; i < 1000; i++) {
+            object.put("key" + i, i);
+        }
+        object.put("key500", "x");
+
+        assertEquals(1000, object.getAllKeyValue().size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(object.containsKey("key" + i));
+        }
+        assertEquals("x", object.get("key500"));
+        assertEquals(999, object.get("key999"));
+        assertFalse(object.containsKey("key1000"));
+        assertNull(object.get("missing"));
+    }
+
+    @Test
+    public void testKeyInterning() throws Exception {
+
+        JsonObject first = Json.parseToJsonObject("{\"id\": 1, \"name\": \"a\"}");
+        JsonObject second = Json.parseToJsonObject("{\"name\": \"b\", \"id\": 2}");
+
+        assertSame(first.getAllKeyValue().get(0).getKey(), second.getAllKeyValue().get(1).getKey());
+        assertSame(first.getAllKeyValue().get(1).getKey(), second.getAllKeyValue().get(0).getKey());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.JsonParserContext;
+import com.study.json.enums.BindingBackend;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonParserContextTest {
+
+    @Test
+    public void testReuse() {
+
+        JsonParserContext context = new JsonParserContext();
+
+        String longString = "x".repeat(100_000);
+        assertEquals(longString, context.parse("\"" + longString + "\""));
+
+        // 解析失败后状态被重置，不影响下一次解析
+        assertThrows(JsonParseException.class, () -> context.parse("{\"a\": [1, 2"));
+        assertThrows(JsonParseException.class, () -> context.parse("[1] 2"));
+
+        JsonObject object = (JsonObject) context.parse("{\"a\": [1, 2], \"b\": \"c\"}");
+        assertEquals("{\"a\":[1,2],\"b\":\"c\"}", object.toString());
+        assertEquals(true, context.parse(new StringReader(" true ")));
+    }
+
+    @Test
+    public void testParseToClass() throws Exception {
+
+        JsonParserContext context = new JsonParserContext();
+        for (int i = 0; i < 3; i++) {
+            User user = context.parseToClass(new StringReader("{\"id\": " + i + ", \"name\": \"n\"}"), User.class, BindingBackend.METHOD_HANDLE);
+            assertEquals(i, user.getId());
+        }
+    }
+
+    @Test
+    public void testThreadLocal() throws Exception {
+
+        assertSame(JsonParserContext.local(), JsonParserContext.local());
+
+        Json.parse("{\"a\": 1}");
+        assertEquals(2, Json.parseToJsonObject("{\"a\": 2}").get("a"));
+    }
+
+}
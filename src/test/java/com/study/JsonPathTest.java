@@ -0,0 +1,78 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.JsonPath;
+import com.study.json.JsonReader;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.JsonParseException;
+import com.study.json.exception.ReadException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonPathTest {
+
+    private static final String JSON = "{\"meta\": {\"note\": \"a \\\"quoted\\\" ]} value\", \"price\": -1},"
+            + " \"items\": [{\"name\": \"x\", \"price\": 1.5}, {\"name\": \"y\", \"price\": 2, \"tags\": [[], {}]},"
+            + " {\"name\": \"z\", \"extra\": {\"price\": 9}}], \"total\": 3}";
+
+    @Test
+    public void testSelect() {
+        assertEquals(List.of(1.5, 2), Json.select(new StringReader(JSON), "$.items[*].price"));
+        assertEquals(List.of("y"), Json.select(new StringReader(JSON), "$['items'][1].name"));
+        assertEquals(List.of(3), Json.select(new StringReader(JSON), "$.total"));
+        assertEquals(List.of(), Json.select(new StringReader(JSON), "$.items[5]"));
+        assertEquals(List.of(-1, 1.5, 2, 9), Json.select(new StringReader(JSON), "$..price"));
+        assertEquals(List.of(9), Json.select(new StringReader(JSON), "$.items..extra.price"));
+        assertEquals(List.of("x", "y", "z"), Json.select(new StringReader(JSON), "$.items.*.name"));
+    }
+
+    @Test
+    public void testSelectTyped() {
+        List<Double> prices = Json.select(new StringReader(JSON), "$.items[*].price", Double.class);
+        assertEquals(List.of(1.5, 2.0), prices);
+
+        List<JsonObject> items = Json.select(new StringReader(JSON), "$.items[2]", JsonObject.class);
+        assertEquals("z", items.get(0).get("name"));
+
+        List<Object> root = Json.select(new StringReader("[1, [2]]"), "$");
+        assertEquals("[1,[2]]", Json.toJson(root.get(0)));
+    }
+
+    @Test
+    public void testSkipValue() {
+        JsonReader reader = new JsonReader("[{\"a\": \"]\\\"\"}, \"s\\n\", 1, []]");
+        assertEquals(TokenType.BEGIN_ARRAY, reader.nextToken());
+        assertEquals(TokenType.END_OBJECT, reader.skipValue());
+        assertEquals(TokenType.SEP_COMMA, reader.nextToken());
+        assertEquals(TokenType.STRING, reader.skipValue());
+        assertEquals(TokenType.SEP_COMMA, reader.nextToken());
+        assertEquals(TokenType.NUMBER, reader.skipValue());
+        assertEquals(TokenType.SEP_COMMA, reader.nextToken());
+        assertEquals(TokenType.END_ARRAY, reader.skipValue());
+        assertEquals(1, reader.depth());
+        assertEquals(TokenType.END_ARRAY, reader.skipValue());
+        assertEquals(0, reader.depth());
+        assertEquals(TokenType.END_DOCUMENT, reader.nextToken());
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("items"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.items[x]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.items[0"));
+        assertThrows(JsonParseException.class, () -> Json.select(new StringReader("{\"a\": [1,]}"), "$.a[*]"));
+        assertThrows(ReadException.class, () -> Json.select(new StringReader("{\"a\": {\"b\": 1"), "$.c"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.JsonReader;
+import com.study.json.enums.TokenType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonReaderTest {
+
+    @Test
+    public void testNextToken() throws Exception {
+
+        try (JsonReader reader = new JsonReader("{\"a\": [1, true], \"b\": \"x\"}")) {
+            assertEquals(TokenType.BEGIN_OBJECT, reader.nextToken());
+            assertEquals(TokenType.STRING, reader.nextToken());
+            assertEquals("a", reader.currentValue());
+            assertEquals(TokenType.SEP_COLON, reader.nextToken());
+            assertEquals(TokenType.BEGIN_ARRAY, reader.nextToken());
+            assertEquals(2, reader.depth());
+
+            reader.skipChildren();
+            assertEquals(TokenType.END_ARRAY, reader.currentToken());
+            assertEquals(1, reader.depth());
+
+            assertEquals(TokenType.SEP_COMMA, reader.nextToken());
+            assertEquals(TokenType.STRING, reader.nextToken());
+            assertEquals(TokenType.SEP_COLON, reader.nextToken());
+            assertEquals(TokenType.STRING, reader.nextToken());
+            assertEquals("x", reader.currentValue());
+            assertEquals(TokenType.END_OBJECT, reader.nextToken());
+            assertEquals(TokenType.END_DOCUMENT, reader.nextToken());
+            assertEquals(TokenType.END_DOCUMENT, reader.nextToken());
+        }
+    }
+
+    @Test
+    public void testParse() throws Exception {
+
+        JsonObject object = Json.parseToJsonObject("{\"user\": {\"name\": \"Bob\", \"tags\": [\"a\", \"b\"]}, \"n\": 1.5}");
+
+        assertEquals("Bob", object.getJsonObject("user").get("name"));
+        assertEquals(2, object.getJsonObject("user").getJsonArray("tags").size());
+        assertEquals(1.5, object.get("n"));
+    }
+
+}
@@ -16,7 +16,7 @@ public class JsonTest {
     @Test
     public void testParse() throws Exception {
 
-        List<String> list = FileUtils.extractAllJsonStrings("D:\\STUDY\\code\\Java\\json\\src\\test\\java\\com\\study\\data.json");
+        List<String> list = FileUtils.extractAllJsonStrings("src/test/java/com/study/data.json");
 
         String jsonStr = list.get(0);
 
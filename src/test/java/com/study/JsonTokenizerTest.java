@@ -2,12 +2,18 @@ package com.study;
 
 import com.study.json.JsonTokenizer;
 import com.study.json.CharReader;
+import com.study.json.enums.TokenType;
+import com.study.json.exception.ReadException;
 import com.study.json.pojo.Token;
 import com.study.json.util.FileUtils;
 import org.junit.Test;
 
+import java.io.StringReader;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
 /**
  * @author 王文涛
  * @date 2025/4/3
@@ -18,7 +24,7 @@ public class JsonTokenizerTest {
     @Test
     public void test1() throws Exception {
 
-        List<String> list = FileUtils.extractAllJsonStrings("D:\\STUDY\\code\\Java\\json\\src\\test\\java\\com\\study\\data.json");
+        List<String> list = FileUtils.extractAllJsonStrings("src/test/java/com/study/data.json");
         for (String jsonString : list) {
             System.out.println(jsonString);
         }
@@ -28,7 +34,7 @@ public class JsonTokenizerTest {
     @Test
     public void test() throws Exception {
 
-        List<String> jsonStrs = FileUtils.extractAllJsonStrings("D:\\STUDY\\code\\Java\\json\\src\\test\\java\\com\\study\\data.json");
+        List<String> jsonStrs = FileUtils.extractAllJsonStrings("src/test/java/com/study/data.json");
 
         JsonTokenizer tokenizer = new JsonTokenizer();
 
@@ -44,4 +50,43 @@ public class JsonTokenizerTest {
 
     }
 
+    @Test
+    public void testAdvance() {
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new CharReader("[\"a\\u0041\", -1.5e3, false, null]"));
+
+        assertEquals(TokenType.BEGIN_ARRAY, tokenizer.advance());
+        assertEquals(TokenType.STRING, tokenizer.advance());
+        assertEquals("aA", tokenizer.valueChars().toString());
+        assertEquals(TokenType.SEP_COMMA, tokenizer.advance());
+        assertEquals(TokenType.NUMBER, tokenizer.advance());
+        assertEquals("-1.5e3", tokenizer.value());
+        assertEquals(TokenType.SEP_COMMA, tokenizer.advance());
+        assertEquals(TokenType.BOOLEAN, tokenizer.advance());
+        assertEquals("false", tokenizer.value());
+        assertEquals(TokenType.SEP_COMMA, tokenizer.advance());
+        assertEquals(TokenType.NULL, tokenizer.advance());
+        assertEquals(TokenType.END_ARRAY, tokenizer.advance());
+        assertEquals(TokenType.END_DOCUMENT, tokenizer.advance());
+    }
+
+    @Test
+    public void testStringAcrossBuffers() {
+
+        String text = "abcdefghij".repeat(10) + "\\\"" + "klmnopqrst".repeat(5);
+        String expected = "abcdefghij".repeat(10) + "\"" + "klmnopqrst".repeat(5);
+
+        // 缓冲区很小，字符串被切分在多个缓冲区中
+        JsonTokenizer tokenizer = new JsonTokenizer(new CharReader(new StringReader("[\"" + text + "\", \"x\"]"), 7));
+        assertEquals(TokenType.BEGIN_ARRAY, tokenizer.advance());
+        assertEquals(TokenType.STRING, tokenizer.advance());
+        assertEquals(expected, tokenizer.value());
+        assertEquals(TokenType.SEP_COMMA, tokenizer.advance());
+        assertEquals(TokenType.STRING, tokenizer.advance());
+        assertEquals("x", tokenizer.value());
+
+        assertThrows(ReadException.class, () -> new JsonTokenizer().tokenizer("[\"a\tb\"]"));
+        assertThrows(ReadException.class, () -> new JsonTokenizer().tokenizer("[\"abc"));
+    }
+
 }
@@ -0,0 +1,158 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class JsonWriterTest {
+
+    private static final String JSON = "{\"text\":\"Line 1\\nLine \\\"2\\\"\\u0001 你好 👋\",\"n\":[1,-2,9000000000,1.5,0.0,true,null]}";
+
+    @Test
+    public void testRoundTrip() throws Exception {
+
+        JsonObject object = Json.parseToJsonObject(JSON);
+        String json = object.toString();
+
+        JsonObject parsed = Json.parseToJsonObject(json);
+        assertEquals(object.get("text"), parsed.get("text"));
+        assertEquals("Line 1\nLine \"2\"\u0001 你好 👋", parsed.get("text"));
+
+        JsonArray n = parsed.getJsonArray("n");
+        assertEquals("[1,-2,9000000000,1.5,0.0,true,null]", n.toString());
+    }
+
+    @Test
+    public void testTargets() throws Exception {
+
+        JsonObject object = Json.parseToJsonObject(JSON);
+        String expected = Json.toJson(object);
+
+        StringWriter writer = new StringWriter();
+        Json.write(object, writer);
+        assertEquals(expected, writer.toString());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(object, outputStream);
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        Json.write(object, byteBuffer);
+        byteBuffer.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(byteBuffer).toString());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+        Json.write(object, direct);
+        direct.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(direct).toString());
+    }
+
+    @Test
+    public void testLargeOutput() throws Exception {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("a👋\"");
+        }
+        String text = builder.toString();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(text, outputStream);
+        assertEquals(text, Json.parse(outputStream.toString(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSurrogateAcrossFlush() throws Exception {
+
+        // 开头的引号加8190个字符后，代理对正好跨过8K缓冲区的边界，之后全是3字节字符
+        String text = "a".repeat(8190) + "\uD83D\uDE00" + "\u4E2D".repeat(9000);
+        String expected = "\"" + text + "\"";
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Json.write(text, outputStream);
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+
+        int length = expected.getBytes(StandardCharsets.UTF_8).length;
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length + 16);
+        Json.write(text, byteBuffer);
+        byteBuffer.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(byteBuffer).toString());
+    }
+
+    @Test
+    public void testBean() throws Exception {
+
+        User user = new User();
+        user.setId(101);
+        user.setName("Alice");
+        user.setActive(true);
+        user.setLastLogin(LocalDateTime.of(2024, 5, 21, 13, 12, 53));
+
+        String json = Json.toJson(user);
+        assertEquals("{\"id\":101,\"name\":\"Alice\",\"isActive\":true,\"lastLogin\":\"2024-05-21 13:12:53\"}", json);
+        assertEquals(user, Json.parseToClass(json, User.class));
+    }
+
+    @Test
+    public void testJdkValueTypes() throws Exception {
+
+        UUID uuid = UUID.randomUUID();
+        assertEquals("\"" + uuid + "\"", Json.toJson(uuid));
+        assertEquals("1", Json.toJson(Optional.of(1)));
+        assertEquals("null", Json.toJson(Optional.empty()));
+        assertEquals("\"x\"", Json.toJson('x'));
+        assertEquals("\"PAID\"", Json.toJson(ObjectBinderTest.Status.PAID));
+        assertEquals("\"https://example.com/a?b=1\"", Json.toJson(URI.create("https://example.com/a?b=1")));
+        assertEquals("\"a/b.json\"", Json.toJson(Path.of("a", "b.json")));
+        assertEquals("\"PT1M\"", Json.toJson(Duration.ofMinutes(1)));
+
+        // 属性中的JDK值类型
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", uuid);
+        map.put("tag", Optional.of("t"));
+        assertEquals("{\"id\":\"" + uuid + "\",\"tag\":\"t\"}", Json.toJson(map));
+
+        // 其它未开放模块中的类给出明确的错误，不尝试反射读取
+        JsonParseException e = assertThrows(JsonParseException.class, () -> Json.toJson(new Thread("t")));
+        assertTrue(e.getMessage().contains("java.lang.Thread"));
+    }
+
+    @Test
+    public void testNegativeZero() throws Exception {
+        assertEquals("-0.0", Json.toJson(-0.0));
+        assertEquals("0.0", Json.toJson(0.0));
+        assertEquals("[-0.0,-1.0]", Json.toJson(new double[]{-0.0, -1.0}));
+    }
+
+    @Test
+    public void testIntegralDouble() throws Exception {
+        for (double value : new double[]{1.0, -42.0, 9999999.0, 1e7, -1e7, 123456789.0, 1e14, 1e15, 1e20}) {
+            assertEquals(Double.toString(value), Json.toJson(value));
+        }
+    }
+
+}
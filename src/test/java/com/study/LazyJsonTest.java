@@ -0,0 +1,86 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class LazyJsonTest {
+
+    private static final String JSON = "{\"id\": 1, \"name\": \"a\\\"b\\u0041\", \"tags\": [\"x\", {\"k\": \"}]\"}, [1, 2.5]],"
+            + " \"nested\": {\"flag\": true, \"big\": 12345678901, \"none\": null}, \"ignored\": {\"deep\": [[[{}]]]}}";
+
+    @Test
+    public void testGet() throws Exception {
+
+        JsonObject object = (JsonObject) Json.parseLazy(JSON);
+
+        assertEquals(1, object.get("id"));
+        assertEquals("a\"bA", object.get("name"));
+        assertTrue(object.containsKey("ignored"));
+        assertFalse(object.containsKey("missing"));
+        assertNull(object.get("missing"));
+
+        JsonObject nested = object.getJsonObject("nested");
+        assertEquals(true, nested.get("flag"));
+        assertEquals(12345678901L, nested.get("big"));
+        assertNull(nested.get("none"));
+        assertTrue(nested.containsKey("none"));
+
+        JsonArray tags = object.getJsonArray("tags");
+        assertEquals(3, tags.size());
+        assertEquals("x", tags.get(0));
+        assertEquals("}]", tags.getJsonObject(1).get("k"));
+        assertEquals(2.5, tags.getJsonArray(2).get(1));
+    }
+
+    @Test
+    public void testMaterialize() throws Exception {
+
+        JsonObject object = (JsonObject) Json.parseLazy(JSON);
+        // 序列化结果与完整解析一致
+        assertEquals(Json.toJson(Json.parse(JSON)), object.toString());
+
+        object.put("id", 2);
+        assertEquals(2, object.get("id"));
+        assertEquals(5, object.getAllKeyValue().size());
+
+        JsonArray array = (JsonArray) Json.parseLazy(" [1, \"2\", [3]] ");
+        array.add(4);
+        assertEquals(4, array.size());
+        assertEquals("[1,\"2\",[3],4]", array.toString());
+    }
+
+    @Test
+    public void testConvertClass() throws Exception {
+        JsonObject object = (JsonObject) Json.parseLazy("{\"id\": 7, \"name\": \"n\", \"isActive\": true, \"lastLogin\": \"2025-04-03 10:00:00\"}");
+        User user = object.convertClass(User.class);
+        assertEquals(7, user.getId());
+        assertEquals("n", user.getName());
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"a\": 1"));
+        assertThrows(JsonParseException.class, () -> Json.parseLazy("{\"a\": 1} x"));
+        assertThrows(JsonParseException.class, () -> ((JsonArray) Json.parseLazy("[1,]")).size());
+        assertThrows(JsonParseException.class, () -> ((JsonObject) Json.parseLazy("{\"a\" 1}")).get("a"));
+        // 跳过的子树不校验，访问时才报错
+        JsonObject object = (JsonObject) Json.parseLazy("{\"a\": 1, \"b\": [tru]}");
+        assertEquals(1, object.get("a"));
+        assertThrows(JsonParseException.class, () -> object.getJsonArray("b").get(0));
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.study;
+
+import com.study.json.CharReader;
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonParser;
+import com.study.json.JsonReader;
+import com.study.json.MappedFileReader;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class MappedFileReaderTest {
+
+    @Test
+    public void testParsePath() throws Exception {
+
+        Path path = Files.createTempFile("mapped", ".json");
+        // Windows下映射区释放前无法删除文件
+        path.toFile().deleteOnExit();
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"你好👋\"}");
+        }
+        builder.append(']');
+        Files.writeString(path, builder, StandardCharsets.UTF_8);
+
+        String expected = Json.parse(builder.toString()).toString();
+        assertEquals(expected, Json.parse(path).toString());
+
+        // 使用很小的窗口，多字节序列会跨越窗口边界
+        try (CharReader reader = new MappedFileReader(path, 7)) {
+            Object result = new JsonParser(new JsonReader(reader)).parse();
+            assertEquals(1000, ((JsonArray) result).size());
+            assertEquals(expected, result.toString());
+        }
+    }
+
+}
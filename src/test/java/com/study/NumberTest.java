@@ -0,0 +1,120 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.JsonObject;
+import com.study.json.JsonReader;
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.NumberUtils;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class NumberTest {
+
+    @Test
+    public void testIntegers() throws Exception {
+        assertEquals(0, Json.parse("-0"));
+        assertEquals(2147483647, Json.parse("2147483647"));
+        assertEquals(2147483648L, Json.parse("2147483648"));
+        assertEquals(Long.MIN_VALUE, Json.parse("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), Json.parse("9223372036854775808"));
+        assertEquals(new BigInteger("-123456789012345678901234567890"), Json.parse("-123456789012345678901234567890"));
+    }
+
+    @Test
+    public void testDoubles() throws Exception {
+        assertEquals(1.5, Json.parse("1.5"));
+        assertEquals(100.0, Json.parse("1E2"));
+        assertEquals(-0.0, Json.parse("-0.0"));
+        assertEquals(1.6E-19, Json.parse("1.6e-19"));
+        assertEquals(Double.MIN_VALUE, Json.parse("4.9e-324"));
+        assertEquals(0.0, Json.parse("1e-400"));
+        assertEquals(new BigDecimal("1e400"), Json.parse("1e400"));
+        assertThrows(JsonParseException.class, () -> Json.parse("[1.]"));
+        assertThrows(JsonParseException.class, () -> Json.parse("[-]"));
+        assertThrows(JsonParseException.class, () -> Json.parse("[1e+]"));
+    }
+
+    @Test
+    public void testRoundTrip() {
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+
+            double value = switch (i % 4) {
+                case 0 -> Double.longBitsToDouble(random.nextLong());
+                case 1 -> random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+                case 2 -> random.nextInt(1_000_000) / 1000.0;
+                default -> random.nextLong() * Math.pow(10, -random.nextInt(30));
+            };
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+
+            String text = Double.toString(value);
+            assertEquals(text, Double.parseDouble(text), NumberUtils.parse(text).doubleValue(), 0.0);
+
+            // 不带指数的十进制形式和截断后的有效数字
+            String plain = new BigDecimal(text).toPlainString();
+            assertEquals(plain, Double.parseDouble(plain), NumberUtils.scan(plain).doubleValue(plain), 0.0);
+        }
+
+        // 恰好位于两个double中间的值按偶数舍入
+        String halfway = "9007199254740993";
+        assertEquals(Double.parseDouble(halfway), NumberUtils.scan(halfway).doubleValue(halfway), 0.0);
+        String halfwayFraction = "9007199254740993.0";
+        assertEquals(Double.parseDouble(halfwayFraction), NumberUtils.parse(halfwayFraction).doubleValue(), 0.0);
+    }
+
+    @Test
+    public void testReaderValues() {
+        JsonReader reader = new JsonReader("[12, -3.25, 12345678901]");
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(12, reader.intValue());
+        assertEquals(12L, reader.longValue());
+        assertEquals(12.0, reader.doubleValue(), 0.0);
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(-3.25, reader.doubleValue(), 0.0);
+        assertThrows(NumberFormatException.class, reader::longValue);
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(12345678901L, reader.longValue());
+        assertThrows(NumberFormatException.class, reader::intValue);
+    }
+
+    @Test
+    public void testAccessors() throws Exception {
+
+        JsonObject object = Json.parseToJsonObject("{\"id\": 7, \"ts\": 1700000000000, \"v\": 0.5, \"ok\": true, \"s\": \"x\", \"n\": null}");
+        assertEquals(7, object.getInt("id"));
+        assertEquals(1700000000000L, object.getLong("ts"));
+        assertEquals(7.0, object.getDouble("id"), 0.0);
+        assertEquals(0.5, object.getDouble("v"), 0.0);
+        assertEquals(true, object.getBoolean("ok"));
+        assertEquals("x", object.getString("s"));
+        assertEquals(null, object.getString("n"));
+        assertThrows(JsonParseException.class, () -> object.getInt("ts"));
+        assertThrows(JsonParseException.class, () -> object.getLong("v"));
+        assertThrows(IllegalArgumentException.class, () -> object.getLong("missing"));
+
+        JsonArray array = Json.parseToJsonArray("[1, 2.5, \"a\"]");
+        assertEquals(1L, array.getLong(0));
+        assertEquals(2.5, array.getDouble(1), 0.0);
+        assertEquals("a", array.getString(2));
+        assertThrows(JsonParseException.class, () -> array.getDouble(2));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.enums.BindingBackend;
+import lombok.Data;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class ObjectBinderTest {
+
+    private static final String ORDER_JSON = "{\"id\": \"order-123\", \"total\": 2039.98, \"count\": 9000000000, "
+            + "\"items\": [{\"product\": \"P001\", \"quantity\": 2}, {\"product\": \"P002\", \"quantity\": 1}], "
+            + "\"quantities\": [2, 1], \"tags\": [\"a\", \"b\"], \"status\": \"PAID\", \"created\": \"2023-10-25\", "
+            + "\"extra\": {\"k\": 1}, \"attributes\": {\"color\": \"red\"}, \"owner\": null}";
+
+    @Test
+    public void testNested() throws Exception {
+
+        for (BindingBackend backend : BindingBackend.values()) {
+
+            Order order = Json.parseToClass(ORDER_JSON, Order.class, backend);
+
+            assertEquals("order-123", order.getId());
+            assertEquals(2039.98, order.getTotal(), 0);
+            assertEquals(9000000000L, order.getCount());
+            assertEquals(2, order.getItems().size());
+            assertEquals("P002", order.getItems().get(1).getProduct());
+            assertEquals(2, order.getItems().get(0).getQuantity());
+            assertArrayEquals(new int[]{2, 1}, order.getQuantities());
+            assertArrayEquals(new String[]{"a", "b"}, order.getTags());
+            assertEquals(Status.PAID, order.getStatus());
+            assertEquals(LocalDate.of(2023, 10, 25), order.getCreated());
+            assertEquals(1, order.getExtra().get("k"));
+            assertEquals("red", order.getAttributes().get("color"));
+            assertNull(order.getOwner());
+        }
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void testUnknownNestedField() throws Exception {
+        Json.parseToClass("{\"items\": [{\"unknown\": 1}]}", Order.class);
+    }
+
+    @Test
+    public void testConcreteCollections() throws Exception {
+
+        String json = "{\"tags\": [\"a\", \"b\"], \"ids\": [3, 1, 3], \"items\": [{\"product\": \"P001\", \"quantity\": 2}]}";
+        for (BindingBackend backend : BindingBackend.values()) {
+
+            Holder holder = Json.parseToClass(json, Holder.class, backend);
+
+            assertEquals(new ArrayList<>(List.of("a", "b")), holder.getTags());
+            assertEquals(List.of(3, 1), new ArrayList<>(holder.getIds()));
+            assertEquals(1, holder.getItems().size());
+            assertEquals("P001", holder.getItems().getFirst().getProduct());
+            assertEquals(2, holder.getItems().getFirst().getQuantity());
+        }
+    }
+
+    public enum Status {
+        NEW, PAID
+    }
+
+    @Data
+    public static class Item {
+        private String product;
+        private int quantity;
+    }
+
+    @Data
+    public static class Holder {
+        private ArrayList<String> tags;
+        private LinkedHashSet<Integer> ids;
+        private LinkedList<Item> items;
+    }
+
+    @Data
+    public static class Order {
+        private String id;
+        private double total;
+        private long count;
+        private List<Item> items;
+        private int[] quantities;
+        private String[] tags;
+        private Status status;
+        private LocalDate created;
+        private JsonObject extra;
+        private Map<String, String> attributes;
+        private User owner;
+    }
+
+}
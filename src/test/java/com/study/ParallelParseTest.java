@@ -0,0 +1,104 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonArray;
+import com.study.json.exception.JsonParseException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class ParallelParseTest {
+
+    private static final String[] STRINGS = {"\"a,b\"", "\"]\"", "\"[{\"", "\"\\\"],\"", "\"\\\\\"", "\"\\\\\\\"[\"", "\"你好\""};
+
+    @Test
+    public void testSameAsSequential() throws Exception {
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(42);
+
+            // 对象、字符串中的括号和逗号、转义的引号和反斜杠分布在各个分块边界附近
+            StringBuilder mixed = new StringBuilder("[");
+            for (int i = 0; mixed.length() < 3 << 20; i++) {
+                mixed.append(i == 0 ? "" : ", ");
+                switch (i % 4) {
+                    case 0 -> mixed.append("{\"id\":").append(i).append(",\"s\":").append(STRINGS[random.nextInt(STRINGS.length)])
+                            .append(",\"a\":[").append(STRINGS[random.nextInt(STRINGS.length)]).append(",[]]}");
+                    case 1 -> mixed.append(STRINGS[random.nextInt(STRINGS.length)]);
+                    case 2 -> mixed.append("[").append(random.nextDouble()).append("]");
+                    default -> mixed.append(random.nextBoolean());
+                }
+            }
+            assertSame(mixed.append(" ]\n").toString(), pool);
+
+            // 全部是数字时拼接后仍使用基本类型存储
+            StringBuilder numbers = new StringBuilder("[");
+            for (int i = 0; numbers.length() < 2 << 20; i++) {
+                numbers.append(i == 0 ? "" : ",").append(random.nextLong());
+            }
+            assertSame(numbers.append(']').toString(), pool);
+
+            JsonArray array = (JsonArray) Json.parseParallel(numbers.toString().getBytes(StandardCharsets.UTF_8), pool);
+            assertEquals(array.size(), array.toLongArray().length);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            String body = "[" + "1,".repeat(1 << 20);
+            String[] invalid = {body + "]", body + "1}", body + "1] 2", body + "1", body + "\"1]", body + "1]]", body + "1] [2]"};
+            for (String json : invalid) {
+                byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+                assertThrows(json.substring(json.length() - 10), JsonParseException.class, () -> Json.parseParallel(bytes, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testErrorMessage() {
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // 出错的元素位于靠后的分块中，由线程池中的线程解析
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; builder.length() < 3 << 20; i++) {
+                builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+            }
+            int position = builder.length() + 7;
+            String json = builder.append(",{\"id\":tru},{\"id\":1}]").toString();
+
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            JsonParseException e = assertThrows(JsonParseException.class, () -> Json.parseParallel(bytes, pool));
+            assertNotNull(e.getMessage());
+            assertTrue(e.getMessage(), e.getMessage().contains("tru") && e.getMessage().contains(String.valueOf(position)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSame(String json, ForkJoinPool pool) throws Exception {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals(Json.toJson(Json.parse(json)), Json.toJson(Json.parseParallel(bytes, pool)));
+    }
+
+}
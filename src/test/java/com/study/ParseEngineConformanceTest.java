@@ -0,0 +1,72 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.enums.ParseEngine;
+import com.study.json.exception.JsonParseException;
+import com.study.json.exception.ReadException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/18
+ * @description 各解析引擎对同一输入的接受与拒绝必须一致
+ **/
+public class ParseEngineConformanceTest {
+
+    private static final String[] VALID = {
+            "0", "-0", "-0.0e+1", "1E5", "12.5e-3", "123456789012345678901234567890", "1.7976931348623157e308",
+            "true", "false", "null", "\"\"", "\"\\u00e9\\n\\\"\"", "\"你好😀\"",
+            "[]", "{}", " [ 1 , 2 ] \n", "[[], {}, [[1]]]", "{\"a\":[{\"b\":null}],\"c\":true,\"d\":-1.5}"
+    };
+
+    private static final String[] INVALID = {
+            "", "   ", "[", "{", "]", "}", "[1,]", "{\"a\":1,}", "[,1]", "{,}", "[1 2]", "{\"a\" 1}", "{\"a\":}", "{1:2}",
+            "[1}", "{\"a\":1]", "[1]]", "[1] x", "{\"a\":1} x", "1 2", "[01]", "-01", "00", "[1.]", "[.5]", "[+1]", "[-]",
+            "[1e]", "tru", "nul", "truex", "[NaN]", "\"abc", "[\"a\\x\"]", "[\"a\u0001\"]", "[1.5.3]", "[x]"
+    };
+
+    @Test
+    public void testValid() throws Exception {
+        for (String json : VALID) {
+            String expected = null;
+            for (ParseEngine engine : ParseEngine.values()) {
+                String actual = Json.toJson(Json.parse(json.getBytes(StandardCharsets.UTF_8), engine));
+                if (expected == null) {
+                    expected = actual;
+                }
+                assertEquals(json + " with " + engine, expected, actual);
+            }
+            assertEquals(json, expected, Json.toJson(Json.parse(json)));
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        for (String json : INVALID) {
+            for (ParseEngine engine : ParseEngine.values()) {
+                assertRejected(json + " with " + engine, () -> Json.parse(json.getBytes(StandardCharsets.UTF_8), engine));
+            }
+            assertRejected(json, () -> Json.parse(json));
+        }
+    }
+
+    private static void assertRejected(String message, ThrowingRunnable parse) {
+        try {
+            parse.run();
+            fail(message + " was accepted");
+        } catch (JsonParseException | ReadException e) {
+            // 语法错误或读取到意外的结尾
+        } catch (Exception e) {
+            throw new AssertionError(message + " failed with " + e, e);
+        }
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import com.study.json.enums.ParseEngine;
+import com.study.json.exception.JsonParseException;
+import com.study.json.util.FileUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class StructuralParserTest {
+
+    @Test
+    public void testSameAsStreaming() throws Exception {
+
+        List<String> jsonStrs = FileUtils.extractAllJsonStrings("src/test/java/com/study/data.json");
+        for (String jsonStr : jsonStrs) {
+            assertSame(jsonStr);
+        }
+
+        assertSame("  42 ");
+        assertSame("\"x\"");
+        assertSame("[]");
+        assertSame("{ }");
+        assertSame("[1, -2.5e3, 12345678901234567890, true, false, null, \"s\", [], {}]");
+        assertSame("{\"a\": {\"b\": [1, {\"c\": \"d\"}]}, \"e\": \"你好\\u0041\\n\"}");
+    }
+
+    @Test
+    public void testBlockBoundaries() throws Exception {
+
+        // 字符串、转义和反斜杠序列落在64字节块的各个位置
+        for (int pad = 0; pad < 130; pad++) {
+            String filler = "x".repeat(pad);
+            assertSame("[\"" + filler + "\", \"a\\\\\", \"b\\\"]\", {\"" + filler + "\\\\\\\"k\": [1,2]}]");
+            assertSame("{\"k\":\"" + filler + "{}[]:,\\\\\\\\\"}");
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+
+        String[] invalid = {"", "[1,]", "[1 2]", "{\"a\" 1}", "{\"a\":}", "{\"a\":1,}", "[\"abc]", "[tru]",
+                "[1] 2", "{a:1}", "[\"a\tb\"]", "[1.]", "{\"a\":1 x}", "]"};
+        for (String json : invalid) {
+            assertThrows(json, JsonParseException.class, () -> Json.parse(json, ParseEngine.STRUCTURAL_INDEX));
+        }
+    }
+
+    @Test
+    public void testKeys() throws Exception {
+        JsonObject object = (JsonObject) Json.parse("{\"naïve\": 1, \"a\\\"b\": 2}", ParseEngine.STRUCTURAL_INDEX);
+        assertEquals(1, object.get("naïve"));
+        assertEquals(2, object.get("a\"b"));
+    }
+
+    private static void assertSame(String json) throws Exception {
+        Object expected = Json.parse(json);
+        Object actual = Json.parse(json.getBytes(StandardCharsets.UTF_8), ParseEngine.STRUCTURAL_INDEX);
+        assertEquals(json, Json.toJson(expected), Json.toJson(actual));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.study;
+
+import com.study.json.Json;
+import com.study.json.JsonObject;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author 王文涛
+ * @date 2026/10/17
+ * @description
+ **/
+public class Utf8ReaderTest {
+
+    private static final String JSON = "{\"en\": \"Hello\", \"zh\": \"你好\", \"emoji\": \"👋\", \"mixed\": \"é-ü-€-𝄞\", \"n\": [1, 2.5]}";
+
+    @Test
+    public void testBytes() throws Exception {
+
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        String expected = Json.parse(JSON).toString();
+
+        assertEquals(expected, Json.parse(bytes).toString());
+        assertEquals(expected, Json.parse(ByteBuffer.wrap(bytes)).toString());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(expected, Json.parse(direct).toString());
+    }
+
+    @Test
+    public void testInputStreamChunks() throws Exception {
+
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+
+        // 每次只返回一个字节，多字节序列一定会跨越读取边界
+        InputStream oneByteAtATime = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        JsonObject object = (JsonObject) Json.parse(oneByteAtATime);
+        assertEquals("你好", object.get("zh"));
+        assertEquals("👋", object.get("emoji"));
+        assertEquals("é-ü-€-𝄞", object.get("mixed"));
+    }
+
+    @Test
+    public void testLargeInput() throws Exception {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(i == 0 ? "" : ",").append("\"你好👋").append(i).append('"');
+        }
+        builder.append(']');
+        String json = builder.toString();
+
+        assertEquals(Json.parse(json).toString(), Json.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).toString());
+    }
+
+    @Test
+    public void testMalformed() throws Exception {
+        byte[] bytes = {'"', 'a', (byte) 0xFF, (byte) 0xC3, 'b', '"'};
+        assertEquals("a��b", Json.parse(bytes));
+    }
+
+}